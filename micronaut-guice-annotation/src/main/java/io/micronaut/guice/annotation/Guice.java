@@ -32,12 +32,11 @@ import java.lang.annotation.Target;
  * <p>Note all features of Guice are supported, there exist the following limitations:</p>
  *
  * <ol>
- *     <li>Guice Scopes are not supported</li>
- *     <li>Guice AOP/Interceptors are not supported</li>
+ *     <li>Guice AOP/Interceptors are only supported for classes or methods matched by annotation</li>
  *     <li>Guice private modules are not supported</li>
  *     <li>Static Injection is not supported</li>
  *     <li>Guice TypeConverters are not supported (use {@link io.micronaut.core.convert.TypeConverter} instead.</li>
- *     <li>Guice Listeners are not supported (use {@link io.micronaut.context.event.BeanCreatedEventListener} instead.</li>
+ *     <li>Guice Type Listeners are not supported (use {@link io.micronaut.context.event.BeanCreatedEventListener} instead.</li>
  *     <li>None of the {@code com.google.inject.spi} API is supported</li>
  * </ol>
  *
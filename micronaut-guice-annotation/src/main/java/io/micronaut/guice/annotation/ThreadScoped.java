@@ -0,0 +1,37 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guice.annotation;
+
+import com.google.inject.ScopeAnnotation;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Scope annotation for instances that are shared within a thread.
+ *
+ * <p>The scope must be entered with {@code io.micronaut.guice.ThreadScope.run(..)} or
+ * {@code io.micronaut.guice.ThreadScope.call(..)}, and instances are kept until the task completes. Obtaining an
+ * instance outside of the scope throws a {@link com.google.inject.OutOfScopeException}.</p>
+ */
+@ScopeAnnotation
+@Documented
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ThreadScoped {
+}
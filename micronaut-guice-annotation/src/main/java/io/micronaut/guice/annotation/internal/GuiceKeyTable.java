@@ -0,0 +1,45 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guice.annotation.internal;
+
+import com.google.inject.Key;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import java.util.List;
+
+/**
+ * Internal interface implemented by the beans that the annotation processor generates for each {@code @Guice}
+ * declaration, listing the keys whose bindings are known at compilation time.
+ *
+ * <p>The injector resolves each of these keys to its bean definition when it is created and looks them up in a fixed
+ * table instead of a bounded cache.</p>
+ */
+@Internal
+public interface GuiceKeyTable {
+
+    /**
+     * @return The keys of the imported classes, {@code @Provides} methods and precompiled bindings
+     */
+    @NonNull List<Key<?>> keys();
+
+    /**
+     * @return Whether every module of the declaration was evaluated at compilation time and its binding graph
+     * was validated, in which case the runtime does not check again that the keys can be provided
+     */
+    default boolean isValidated() {
+        return false;
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guice.annotation.internal;
+
+import io.micronaut.core.annotation.Internal;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+/**
+ * Internal annotation added to imported Guice module beans by the annotation processor.
+ *
+ * <p>When {@link #precompiled()} is {@code true} the bindings declared by the module's {@code configure()} method
+ * were evaluated at compilation time and emitted as regular bean definitions, hence the module is not configured at runtime.</p>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Internal
+public @interface GuiceModule {
+    String MEMBER_PRECOMPILED = "precompiled";
+
+    /**
+     * @return Whether the bindings of the module were computed at compilation time.
+     */
+    boolean precompiled() default false;
+}
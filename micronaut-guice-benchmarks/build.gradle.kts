@@ -0,0 +1,29 @@
+plugins {
+    id("io.micronaut.build.internal.guice-base")
+    id("java")
+    id("me.champeau.jmh") version "0.7.2"
+}
+
+dependencies {
+    jmhAnnotationProcessor(projects.micronautGuiceProcessor)
+    jmhAnnotationProcessor(mn.micronaut.inject.java)
+    jmhImplementation(projects.micronautGuice)
+    jmhRuntimeOnly(libs.managed.guava)
+}
+
+jmh {
+    includes.addAll(providers.gradleProperty("jmh.includes").map { listOf(it) }.orElse(listOf()))
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+}
+
+tasks.register<JavaExec>("startupScalingReport") {
+    group = "benchmark"
+    description = "Reports how startup time and retained heap grow with the number of Guice bindings"
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("io.micronaut.guice.benchmark.StartupScalingReport")
+    args(providers.gradleProperty("bindings").map { it.split(",") }.getOrElse(listOf()))
+    providers.gradleProperty("maxRatio").orNull?.let { systemProperty("guice.scaling.max-ratio", it) }
+    maxHeapSize = "2g"
+}
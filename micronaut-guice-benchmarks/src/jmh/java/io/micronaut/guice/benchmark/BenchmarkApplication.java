@@ -0,0 +1,36 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guice.benchmark;
+
+import io.micronaut.guice.annotation.Guice;
+
+/**
+ * Imports the benchmark module into the Micronaut context.
+ */
+@Guice(
+    modules = BenchmarkModule.class,
+    classes = {DefaultService.class, NamedService.class, FastService.class, InjectTarget.class, CountedService.class},
+    environments = BenchmarkApplication.ENVIRONMENT
+)
+public final class BenchmarkApplication {
+    /**
+     * The environment the benchmark module is active in.
+     */
+    public static final String ENVIRONMENT = "guice-benchmark";
+
+    private BenchmarkApplication() {
+    }
+}
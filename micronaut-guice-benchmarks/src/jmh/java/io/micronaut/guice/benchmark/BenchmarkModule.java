@@ -0,0 +1,36 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guice.benchmark;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.matcher.Matchers;
+import com.google.inject.name.Names;
+
+/**
+ * Module shared by the Micronaut and the plain Guice injector benchmarks.
+ *
+ * <p>The instance binding forces the module to be configured at runtime through {@code GuiceModuleBinder}.</p>
+ */
+public class BenchmarkModule extends AbstractModule {
+    @Override
+    protected void configure() {
+        bind(Service.class).to(DefaultService.class);
+        bind(Service.class).annotatedWith(Names.named("named")).to(NamedService.class);
+        bind(Service.class).annotatedWith(Fast.class).to(FastService.class);
+        bind(String.class).annotatedWith(Names.named("greeting")).toInstance("hello");
+        bindInterceptor(Matchers.any(), Matchers.annotatedWith(Counted.class), new CountingInterceptor());
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guice.benchmark;
+
+import com.google.inject.Inject;
+import com.google.inject.name.Named;
+
+/**
+ * An object that is not created by the injector and receives members injection.
+ */
+public class InjectTarget {
+    @Inject
+    Service service;
+
+    @Inject
+    @Named("named")
+    Service namedService;
+
+    @Inject
+    @Fast
+    Service fastService;
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guice.benchmark;
+
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.Provider;
+import com.google.inject.name.Names;
+import io.micronaut.context.ApplicationContext;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the lookup hot paths of the Micronaut {@link Injector} against a plain Guice injector
+ * configured with the same {@link BenchmarkModule}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class InjectorBenchmark {
+    private static final Key<Service> UNQUALIFIED = Key.get(Service.class);
+    private static final Key<Service> NAMED = Key.get(Service.class, Names.named("named"));
+    private static final Key<Service> ANNOTATED = Key.get(Service.class, Fast.class);
+    private static final Key<String> CONSTANT = Key.get(String.class, Names.named("greeting"));
+
+    /**
+     * The injector implementation to measure.
+     */
+    @Param({"micronaut", "guice"})
+    public String injectorType;
+
+    private ApplicationContext applicationContext;
+    private Injector injector;
+    private Provider<Service> provider;
+
+    /**
+     * Creates the injector.
+     */
+    @Setup
+    public void setup() {
+        if ("micronaut".equals(injectorType)) {
+            applicationContext = ApplicationContext.run(BenchmarkApplication.ENVIRONMENT);
+            injector = applicationContext.getBean(Injector.class);
+        } else {
+            injector = com.google.inject.Guice.createInjector(new BenchmarkModule());
+        }
+        provider = injector.getProvider(UNQUALIFIED);
+    }
+
+    /**
+     * Stops the context.
+     */
+    @TearDown
+    public void tearDown() {
+        if (applicationContext != null) {
+            applicationContext.close();
+        }
+    }
+
+    @Benchmark
+    public Service getInstanceUnqualified() {
+        return injector.getInstance(UNQUALIFIED);
+    }
+
+    @Benchmark
+    public Service getInstanceByClass() {
+        return injector.getInstance(Service.class);
+    }
+
+    @Benchmark
+    public DefaultService getInstanceImported() {
+        return injector.getInstance(DefaultService.class);
+    }
+
+    @Benchmark
+    public Service getInstanceNamed() {
+        return injector.getInstance(NAMED);
+    }
+
+    @Benchmark
+    public Service getInstanceAnnotated() {
+        return injector.getInstance(ANNOTATED);
+    }
+
+    @Benchmark
+    public String getInstanceConstant() {
+        return injector.getInstance(CONSTANT);
+    }
+
+    @Benchmark
+    public Service getProviderAndGet() {
+        return injector.getProvider(UNQUALIFIED).get();
+    }
+
+    @Benchmark
+    public Service providerGet() {
+        return provider.get();
+    }
+
+    @Benchmark
+    public InjectTarget injectMembers() {
+        InjectTarget target = new InjectTarget();
+        injector.injectMembers(target);
+        return target;
+    }
+}
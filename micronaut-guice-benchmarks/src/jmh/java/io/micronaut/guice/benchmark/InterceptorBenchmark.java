@@ -0,0 +1,83 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guice.benchmark;
+
+import com.google.inject.Injector;
+import io.micronaut.context.ApplicationContext;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the per-call overhead of a Guice {@link CountingInterceptor} applied with compile-time AOP against
+ * the proxy generated by Guice at runtime. Run with {@code -prof gc} to compare the allocations per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class InterceptorBenchmark {
+    /**
+     * The injector implementation to measure.
+     */
+    @Param({"micronaut", "guice"})
+    public String injectorType;
+
+    private ApplicationContext applicationContext;
+    private CountedService service;
+    private String value = "value";
+
+    /**
+     * Creates the intercepted service.
+     */
+    @Setup
+    public void setup() {
+        Injector injector;
+        if ("micronaut".equals(injectorType)) {
+            applicationContext = ApplicationContext.run(BenchmarkApplication.ENVIRONMENT);
+            injector = applicationContext.getBean(Injector.class);
+        } else {
+            injector = com.google.inject.Guice.createInjector(new BenchmarkModule());
+        }
+        service = injector.getInstance(CountedService.class);
+    }
+
+    /**
+     * Stops the context.
+     */
+    @TearDown
+    public void tearDown() {
+        if (applicationContext != null) {
+            applicationContext.close();
+        }
+    }
+
+    @Benchmark
+    public String intercepted() {
+        return service.counted(value);
+    }
+
+    @Benchmark
+    public String notIntercepted() {
+        return service.direct(value);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guice.benchmark;
+
+import io.micronaut.context.ApplicationContext;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time to start a context that imports a {@link SyntheticModule} of increasing size.
+ *
+ * <p>Run with {@code -prof gc} to also report the allocation rate per binding count.
+ * See {@link StartupScalingReport} for the retained heap.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class StartupScalingBenchmark {
+    /**
+     * The number of generated bindings.
+     */
+    @Param({"100", "1000", "10000"})
+    public int bindings;
+
+    /**
+     * The injector implementation to measure.
+     */
+    @Param({"micronaut", "guice"})
+    public String injectorType;
+
+    private ApplicationContext applicationContext;
+
+    /**
+     * Prepares a context that is not yet started.
+     */
+    @Setup(Level.Iteration)
+    public void setup() {
+        if ("micronaut".equals(injectorType)) {
+            applicationContext = StartupScalingReport.newContext(bindings);
+        }
+    }
+
+    /**
+     * Stops the context started by the iteration.
+     */
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        if (applicationContext != null) {
+            applicationContext.close();
+            applicationContext = null;
+        }
+    }
+
+    @Benchmark
+    public Object startup() {
+        if (applicationContext != null) {
+            return applicationContext.start();
+        }
+        return com.google.inject.Guice.createInjector(new SyntheticModule(bindings));
+    }
+}
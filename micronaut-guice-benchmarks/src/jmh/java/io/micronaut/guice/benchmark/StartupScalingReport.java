@@ -0,0 +1,136 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guice.benchmark;
+
+import io.micronaut.context.ApplicationContext;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Starts contexts importing a {@link SyntheticModule} of increasing size and reports how startup time and
+ * retained heap grow with the number of bindings.
+ *
+ * <p>The output is a CSV table followed by a text plot of the time per binding. When the {@code guice.scaling.max-ratio}
+ * system property is set the process exits with a non-zero status if the time per binding of the largest module
+ * exceeds the time per binding of the smallest module by more than that ratio, which can be used to guard against
+ * regressions that scale worse than linear.</p>
+ */
+public final class StartupScalingReport {
+    private static final int[] DEFAULT_BINDINGS = {100, 1_000, 4_000, 10_000};
+    private static final int REPETITIONS = Integer.getInteger("guice.scaling.repetitions", 5);
+    private static final int PLOT_WIDTH = 60;
+    private static final double NANOS_PER_MILLI = 1_000_000d;
+    private static final double BYTES_PER_KB = 1024d;
+
+    private StartupScalingReport() {
+    }
+
+    /**
+     * Creates a context that imports a synthetic module, without starting it.
+     *
+     * @param bindings The number of bindings
+     * @return The context
+     */
+    static ApplicationContext newContext(int bindings) {
+        return ApplicationContext.builder()
+            .environments(BenchmarkApplication.ENVIRONMENT)
+            .singletons(new SyntheticModule(bindings))
+            .build();
+    }
+
+    /**
+     * Runs the report.
+     *
+     * @param args The binding counts to measure, defaults to 100, 1000, 4000 and 10000
+     */
+    public static void main(String[] args) {
+        int[] counts = args.length == 0 ? DEFAULT_BINDINGS : Arrays.stream(args).mapToInt(Integer::parseInt).toArray();
+        // warm up class loading and JIT with the smallest module
+        for (int i = 0; i < REPETITIONS; i++) {
+            measure(counts[0]);
+        }
+        List<Sample> samples = new ArrayList<>(counts.length);
+        for (int count : counts) {
+            long bestTime = Long.MAX_VALUE;
+            long bestRetained = Long.MAX_VALUE;
+            for (int i = 0; i < REPETITIONS; i++) {
+                Sample sample = measure(count);
+                bestTime = Math.min(bestTime, sample.startupNanos());
+                bestRetained = Math.min(bestRetained, sample.retainedBytes());
+            }
+            samples.add(new Sample(count, bestTime, bestRetained));
+        }
+        print(samples);
+        String maxRatio = System.getProperty("guice.scaling.max-ratio");
+        if (maxRatio != null && samples.size() > 1) {
+            double ratio = samples.get(samples.size() - 1).nanosPerBinding() / samples.get(0).nanosPerBinding();
+            System.out.printf(Locale.ROOT, "%nTime per binding ratio (largest / smallest): %.2f%n", ratio);
+            if (ratio > Double.parseDouble(maxRatio)) {
+                System.err.println("Startup time scales worse than the allowed ratio of " + maxRatio);
+                System.exit(1);
+            }
+        }
+    }
+
+    private static Sample measure(int bindings) {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        ApplicationContext context = newContext(bindings);
+        gc(memory);
+        long heapBefore = memory.getHeapMemoryUsage().getUsed();
+        long start = System.nanoTime();
+        context.start();
+        long startupNanos = System.nanoTime() - start;
+        gc(memory);
+        long retained = memory.getHeapMemoryUsage().getUsed() - heapBefore;
+        context.close();
+        return new Sample(bindings, startupNanos, Math.max(0, retained));
+    }
+
+    private static void gc(MemoryMXBean memory) {
+        for (int i = 0; i < 2; i++) {
+            memory.gc();
+        }
+    }
+
+    private static void print(List<Sample> samples) {
+        System.out.println("bindings,startup_ms,retained_kb,ns_per_binding,bytes_per_binding");
+        for (Sample sample : samples) {
+            System.out.printf(Locale.ROOT, "%d,%.2f,%.1f,%.0f,%.0f%n",
+                sample.bindings(),
+                sample.startupNanos() / NANOS_PER_MILLI,
+                sample.retainedBytes() / BYTES_PER_KB,
+                sample.nanosPerBinding(),
+                (double) sample.retainedBytes() / sample.bindings());
+        }
+        double max = samples.stream().mapToDouble(Sample::nanosPerBinding).max().orElse(1);
+        System.out.println();
+        System.out.println("Startup time per binding (linear scaling shows as bars of equal length)");
+        for (Sample sample : samples) {
+            int width = (int) Math.round(sample.nanosPerBinding() / max * PLOT_WIDTH);
+            System.out.printf(Locale.ROOT, "%8d | %s%n", sample.bindings(), "#".repeat(Math.max(1, width)));
+        }
+    }
+
+    private record Sample(int bindings, long startupNanos, long retainedBytes) {
+        double nanosPerBinding() {
+            return (double) startupNanos / bindings;
+        }
+    }
+}
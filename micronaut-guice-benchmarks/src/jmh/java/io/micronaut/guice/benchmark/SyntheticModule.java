@@ -0,0 +1,54 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guice.benchmark;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.multibindings.Multibinder;
+import com.google.inject.name.Names;
+
+/**
+ * Generates a configurable number of bindings spread evenly over linked, provider, constant and multibinder bindings.
+ */
+public class SyntheticModule extends AbstractModule {
+    private static final int BINDING_KINDS = 4;
+    private final int bindings;
+
+    /**
+     * @param bindings The total number of bindings to generate
+     */
+    public SyntheticModule(int bindings) {
+        this.bindings = bindings;
+    }
+
+    @Override
+    protected void configure() {
+        Multibinder<Service> multibinder = Multibinder.newSetBinder(binder(), Service.class);
+        for (int i = 0; i < bindings; i++) {
+            String name = "synthetic" + i;
+            switch (i % BINDING_KINDS) {
+                case 0 -> bind(Service.class).annotatedWith(Names.named(name)).to(DefaultService.class);
+                case 1 -> bind(Service.class).annotatedWith(Names.named(name)).toProvider(NamedService::new);
+                case 2 -> bindConstant().annotatedWith(Names.named(name)).to(i);
+                default -> multibinder.addBinding().to(FastService.class);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SyntheticModule(" + bindings + ")";
+    }
+}
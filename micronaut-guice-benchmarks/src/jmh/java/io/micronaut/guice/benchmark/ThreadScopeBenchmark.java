@@ -0,0 +1,122 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guice.benchmark;
+
+import com.google.inject.Key;
+import com.google.inject.Provider;
+import io.micronaut.guice.ThreadScope;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the {@link ThreadScope} under heavy thread churn: every operation starts {@link #tasks} short-lived
+ * threads that each look up thread scoped instances.
+ *
+ * <p>Virtual threads are used when the JDK supports them. With {@code scoped=true} every task runs within
+ * {@link ThreadScope#run(Runnable)}, which thread scoped instances require. With {@code scoped=false} the tasks
+ * create unscoped instances instead, as a baseline for the cost of entering the scope. Run with {@code -prof gc}
+ * to compare the allocation rate.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ThreadScopeBenchmark {
+    private static final Key<Service> SERVICE = Key.get(Service.class);
+    private static final Key<DefaultService> DEFAULT_SERVICE = Key.get(DefaultService.class);
+
+    /**
+     * The number of threads started per operation.
+     */
+    @Param({"10000"})
+    public int tasks;
+
+    /**
+     * Whether the tasks enter the scope and look up thread scoped instances, otherwise unscoped ones.
+     */
+    @Param({"true", "false"})
+    public boolean scoped;
+
+    private ExecutorService executor;
+    private Provider<Service> serviceProvider;
+    private Provider<DefaultService> defaultServiceProvider;
+
+    /**
+     * Creates the executor and the scoped providers.
+     *
+     * @throws Exception If the executor cannot be created
+     */
+    @Setup
+    public void setup() throws Exception {
+        executor = newThreadPerTaskExecutor();
+        if (scoped) {
+            serviceProvider = ThreadScope.INSTANCE.scope(SERVICE, DefaultService::new);
+            defaultServiceProvider = ThreadScope.INSTANCE.scope(DEFAULT_SERVICE, DefaultService::new);
+        } else {
+            serviceProvider = DefaultService::new;
+            defaultServiceProvider = DefaultService::new;
+        }
+    }
+
+    /**
+     * Stops the executor.
+     */
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public int churn() throws Exception {
+        Future<?>[] futures = new Future<?>[tasks];
+        Runnable task = scoped ? () -> ThreadScope.run(this::lookup) : this::lookup;
+        for (int i = 0; i < tasks; i++) {
+            futures[i] = executor.submit(task);
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        return futures.length;
+    }
+
+    private void lookup() {
+        for (int i = 0; i < 4; i++) {
+            serviceProvider.get();
+            defaultServiceProvider.get();
+        }
+    }
+
+    private static ExecutorService newThreadPerTaskExecutor() throws Exception {
+        try {
+            Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) method.invoke(null);
+        } catch (NoSuchMethodException e) {
+            // virtual threads are not supported
+            return Executors.newCachedThreadPool();
+        }
+    }
+}
@@ -5,6 +5,7 @@ plugins {
 dependencies {
     implementation(projects.micronautGuiceAnnotation)
     implementation(mn.micronaut.core.processor)
+    compileOnly(mn.micronaut.inject.java)
     implementation(libs.managed.guice) {
         exclude(group="com.google.guava", module = "guava")
     }
@@ -0,0 +1,337 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guice.processor;
+
+import io.micronaut.context.annotation.Bean;
+import io.micronaut.context.annotation.DefaultImplementation;
+import io.micronaut.context.annotation.Factory;
+import io.micronaut.core.annotation.AnnotationUtil;
+import io.micronaut.core.annotation.AnnotationValue;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.guice.annotation.internal.GuiceAnnotation;
+import io.micronaut.inject.ast.ClassElement;
+import io.micronaut.inject.ast.Element;
+import io.micronaut.inject.ast.ElementQuery;
+import io.micronaut.inject.ast.FieldElement;
+import io.micronaut.inject.ast.MemberElement;
+import io.micronaut.inject.ast.MethodElement;
+import io.micronaut.inject.ast.ParameterElement;
+import io.micronaut.inject.ast.TypedElement;
+import io.micronaut.inject.visitor.VisitorContext;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * The graph of the bindings of a {@code @Guice} declaration that are visible at compilation time.
+ *
+ * <p>The bindings of modules that are evaluated at compilation time and of {@code @Provides} methods are nodes of the
+ * graph, as are the imported classes. The injection points of each node are its dependencies.</p>
+ *
+ * <p>A binding that is configured twice is always an error. A dependency that is not bound is only an error if every
+ * module was evaluated at compilation time, since otherwise a module configured at runtime may still bind it. A
+ * dependency qualified with a binding annotation must then be satisfied by a bean annotated with the binding
+ * annotation, and an unqualified dependency on a type of the packages of the graph by an imported class or a bean of
+ * a type assignable to it. Beans are searched in the packages of the graph and of the dependencies, each of which is
+ * scanned once.</p>
+ */
+@Internal
+final class BindingGraph {
+    private static final Set<String> PROVIDER_TYPES = Set.of(
+        "jakarta.inject.Provider",
+        "javax.inject.Provider",
+        "com.google.inject.Provider",
+        "io.micronaut.context.BeanProvider"
+    );
+
+    private static final String INTRODUCTION = "io.micronaut.aop.Introduction";
+
+    private final Map<String, Node> bindings = new LinkedHashMap<>();
+    private final List<Node> nodes = new ArrayList<>();
+    private final List<Problem> problems = new ArrayList<>();
+    private final Set<String> packages = new LinkedHashSet<>();
+
+    /**
+     * Adds a binding of a module.
+     *
+     * @param key The key of the binding
+     * @param source The element that declares the binding
+     * @param dependencies The dependencies of the binding
+     */
+    void addBinding(@NonNull String key, @NonNull Element source, @NonNull List<Dependency> dependencies) {
+        Node node = new Node(key, source, dependencies);
+        if (source instanceof MemberElement member) {
+            packages.add(member.getDeclaringType().getPackageName());
+        } else if (source instanceof ClassElement classElement) {
+            packages.add(classElement.getPackageName());
+        }
+        Node existing = bindings.putIfAbsent(key, node);
+        if (existing != null) {
+            problems.add(new Problem(source, "A binding to " + key + " was already configured at " + describe(existing.source())));
+        }
+        nodes.add(node);
+    }
+
+    /**
+     * Adds a class that is injected without a binding, such as an imported class.
+     *
+     * @param classElement The class
+     */
+    void addClass(@NonNull ClassElement classElement) {
+        nodes.add(new Node(keyOf(classElement, null), classElement, injectionPoints(classElement)));
+        packages.add(classElement.getPackageName());
+    }
+
+    /**
+     * Validates the graph.
+     *
+     * @param complete Whether every binding of the declaration is part of the graph
+     * @param context The visitor context
+     * @return The problems found
+     */
+    @NonNull List<Problem> validate(boolean complete, @NonNull VisitorContext context) {
+        List<Problem> found = new ArrayList<>(problems);
+        if (!complete) {
+            return found;
+        }
+        Set<String> classKeys = new LinkedHashSet<>();
+        Set<String> searched = new LinkedHashSet<>(packages);
+        for (Node node : nodes) {
+            if (bindings.get(node.key()) != node) {
+                classKeys.add(node.key());
+            }
+            for (Dependency dependency : node.dependencies()) {
+                if (dependency.bindingAnnotation() != null) {
+                    searched.add(dependency.type().getPackageName());
+                }
+            }
+        }
+        List<ClassElement> candidates = new ArrayList<>();
+        for (String packageName : searched) {
+            candidates.addAll(List.of(context.getClassElements(packageName, "*")));
+        }
+        List<ClassElement> beanTypes = beanTypes(candidates);
+        for (Node node : nodes) {
+            for (Dependency dependency : node.dependencies()) {
+                if (bindings.containsKey(dependency.key())) {
+                    continue;
+                }
+                boolean missing;
+                if (dependency.bindingAnnotation() != null) {
+                    missing = !hasAnnotatedBean(dependency, candidates);
+                } else {
+                    missing = isValidatedWithoutQualifier(dependency) && !classKeys.contains(dependency.key())
+                        && beanTypes.stream().noneMatch(beanType -> beanType.isAssignable(dependency.type()));
+                }
+                if (missing) {
+                    found.add(new Problem(dependency.element(), "No implementation for " + dependency.key() + " was bound. "
+                        + "It is required by " + describe(node.source()) + "."));
+                }
+            }
+        }
+        return found;
+    }
+
+    private static boolean hasAnnotatedBean(Dependency dependency, List<ClassElement> candidates) {
+        for (ClassElement candidate : candidates) {
+            if (!candidate.isAbstract() && candidate.hasDeclaredAnnotation(dependency.bindingAnnotation())
+                && candidate.isAssignable(dependency.type().getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param dependency The dependency
+     * @return Whether the dependency is unqualified and on a type of the packages of the graph that is neither
+     * a container nor implemented by default, so that the beans that may satisfy it are searched
+     */
+    private boolean isValidatedWithoutQualifier(Dependency dependency) {
+        ClassElement type = dependency.type();
+        return dependency.key().equals(keyOf(type, null))
+            && packages.contains(type.getPackageName())
+            && type.getBoundGenericTypes().isEmpty()
+            && !type.isArray() && !type.isPrimitive()
+            && !type.isAssignable(Iterable.class) && !type.isAssignable(Map.class) && !type.isAssignable(Optional.class)
+            && !type.hasStereotype(DefaultImplementation.class)
+            && !type.hasAnnotation("com.google.inject.ImplementedBy")
+            && !type.hasAnnotation("com.google.inject.ProvidedBy");
+    }
+
+    /**
+     * @param candidates The classes of the searched packages
+     * @return The types of the beans declared by the classes, including those produced by factories
+     */
+    private static List<ClassElement> beanTypes(List<ClassElement> candidates) {
+        List<ClassElement> beanTypes = new ArrayList<>();
+        for (ClassElement candidate : candidates) {
+            if (candidate.hasStereotype(AnnotationUtil.SCOPE) || candidate.hasStereotype(Bean.class)
+                || candidate.hasStereotype(INTRODUCTION)
+                || candidate.getPrimaryConstructor().filter(constructor -> constructor.hasStereotype(AnnotationUtil.INJECT)).isPresent()) {
+                beanTypes.add(candidate);
+            }
+            if (candidate.hasStereotype(Factory.class)) {
+                for (MethodElement method : candidate.getEnclosedElements(ElementQuery.ALL_METHODS.annotated(am -> am.hasStereotype(Bean.class)))) {
+                    beanTypes.add(method.getGenericReturnType());
+                }
+            }
+        }
+        return beanTypes;
+    }
+
+    /**
+     * @param classElement The class
+     * @return The dependencies of the injection points of the class
+     */
+    static @NonNull List<Dependency> injectionPoints(@NonNull ClassElement classElement) {
+        List<Dependency> dependencies = new ArrayList<>();
+        classElement.getPrimaryConstructor().ifPresent(constructor -> addParameters(dependencies, constructor));
+        for (FieldElement field : classElement.getEnclosedElements(ElementQuery.ALL_FIELDS.annotated(am -> am.hasStereotype(AnnotationUtil.INJECT)))) {
+            addDependency(dependencies, field);
+        }
+        for (MethodElement method : classElement.getEnclosedElements(ElementQuery.ALL_METHODS.annotated(am -> am.hasStereotype(AnnotationUtil.INJECT)))) {
+            addParameters(dependencies, method);
+        }
+        return dependencies;
+    }
+
+    /**
+     * @param method The method
+     * @return The dependencies of the parameters of the method
+     */
+    static @NonNull List<Dependency> parameters(@NonNull MethodElement method) {
+        List<Dependency> dependencies = new ArrayList<>();
+        addParameters(dependencies, method);
+        return dependencies;
+    }
+
+    private static void addParameters(List<Dependency> dependencies, MethodElement method) {
+        for (ParameterElement parameter : method.getParameters()) {
+            addDependency(dependencies, parameter);
+        }
+    }
+
+    private static void addDependency(List<Dependency> dependencies, TypedElement element) {
+        ClassElement type = element.getGenericType();
+        if (PROVIDER_TYPES.contains(type.getName()) && type.getBoundGenericTypes().size() == 1) {
+            type = type.getBoundGenericTypes().get(0);
+        }
+        String qualifierName = element.getAnnotationNameByStereotype(AnnotationUtil.QUALIFIER).orElse(null);
+        if (qualifierName == null) {
+            dependencies.add(new Dependency(keyOf(type, null), element, type, null));
+        } else if (qualifierName.equals(AnnotationUtil.NAMED)) {
+            dependencies.add(new Dependency(keyOf(type, namedQualifier(element.stringValue(AnnotationUtil.NAMED).orElse(""))), element, type, null));
+        } else {
+            AnnotationValue<?> qualifier = element.getAnnotation(qualifierName);
+            boolean marker = qualifier != null && qualifier.getValues().isEmpty();
+            // only binding annotations without members can be matched against the bindings
+            boolean bindingAnnotated = marker && !type.isArray() && !type.isAssignable(Iterable.class)
+                && !type.isAssignable(Map.class) && !type.isAssignable(Optional.class)
+                && element.getAnnotationNamesByStereotype(GuiceAnnotation.class).contains(qualifierName);
+            dependencies.add(new Dependency(
+                keyOf(type, marker ? annotationQualifier(qualifierName) : "@" + qualifierName + qualifier),
+                element,
+                type,
+                bindingAnnotated ? qualifierName : null
+            ));
+        }
+    }
+
+    /**
+     * @param type The type
+     * @param qualifier The qualifier as returned by {@link #namedQualifier(String)} or {@link #annotationQualifier(String)}
+     * @return The key
+     */
+    static @NonNull String keyOf(@NonNull ClassElement type, @Nullable String qualifier) {
+        return typeName(type) + (qualifier != null ? qualifier : "");
+    }
+
+    static @NonNull String namedQualifier(@NonNull String name) {
+        return "@Named(\"" + name + "\")";
+    }
+
+    static @NonNull String annotationQualifier(@NonNull String annotationName) {
+        return "@" + annotationName;
+    }
+
+    private static String typeName(ClassElement type) {
+        List<? extends ClassElement> typeArguments = type.getBoundGenericTypes();
+        String name = type.isArray() ? type.getName() + "[]".repeat(type.getArrayDimensions()) : type.getName();
+        if (typeArguments.isEmpty()) {
+            return name;
+        }
+        StringJoiner joiner = new StringJoiner(", ", name + "<", ">");
+        for (ClassElement typeArgument : typeArguments) {
+            joiner.add(typeName(typeArgument));
+        }
+        return joiner.toString();
+    }
+
+    private static String describe(Element element) {
+        if (element instanceof ParameterElement || element instanceof FieldElement || element instanceof MethodElement) {
+            return element.getDescription(false);
+        }
+        return element.getName();
+    }
+
+    /**
+     * Reports the problems of the graph.
+     *
+     * @param problems The problems
+     * @param context The visitor context
+     * @param failOnProblems Whether the problems fail the compilation, otherwise they are reported as warnings
+     */
+    static void report(List<Problem> problems, VisitorContext context, boolean failOnProblems) {
+        for (Problem problem : problems) {
+            if (failOnProblems) {
+                context.fail(problem.message(), problem.element());
+            } else {
+                context.warn(problem.message(), problem.element());
+            }
+        }
+    }
+
+    /**
+     * A dependency of an injection point.
+     *
+     * @param key The key of the dependency
+     * @param element The injection point
+     * @param type The type of the dependency
+     * @param bindingAnnotation The binding annotation if the dependency can be validated, otherwise {@code null}
+     */
+    record Dependency(String key, Element element, ClassElement type, @Nullable String bindingAnnotation) {
+    }
+
+    /**
+     * A problem found in the graph.
+     *
+     * @param element The element to report the problem on
+     * @param message The message
+     */
+    record Problem(Element element, String message) {
+    }
+
+    private record Node(String key, Element source, List<Dependency> dependencies) {
+    }
+}
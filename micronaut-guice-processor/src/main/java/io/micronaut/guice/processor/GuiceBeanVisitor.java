@@ -18,12 +18,14 @@ package io.micronaut.guice.processor;
 import com.google.inject.RestrictedBindingSource;
 import io.micronaut.context.annotation.Bean;
 import io.micronaut.core.annotation.AnnotationClassValue;
+import io.micronaut.core.annotation.AnnotationUtil;
 import io.micronaut.guice.annotation.internal.GuiceAnnotation;
 import io.micronaut.inject.ast.ClassElement;
 import io.micronaut.inject.ast.ConstructorElement;
 import io.micronaut.inject.processing.ProcessingException;
 import io.micronaut.inject.visitor.TypeElementVisitor;
 import io.micronaut.inject.visitor.VisitorContext;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -52,6 +54,21 @@ public class GuiceBeanVisitor
         }
         if (element.hasStereotype(GuiceAnnotation.class)) {
             exposeOnlyType(element);
+            validateInjectionPoints(element);
+        }
+    }
+
+    /**
+     * Fails on injection points with more than one binding annotation, which Guice rejects when the injector is created.
+     *
+     * @param element The Guice bean
+     */
+    private static void validateInjectionPoints(ClassElement element) {
+        for (BindingGraph.Dependency dependency : BindingGraph.injectionPoints(element)) {
+            List<String> qualifiers = dependency.element().getAnnotationNamesByStereotype(AnnotationUtil.QUALIFIER);
+            if (qualifiers.size() > 1) {
+                throw new ProcessingException(dependency.element(), "More than one binding annotation is declared: " + qualifiers);
+            }
         }
     }
 
@@ -17,13 +17,25 @@ package io.micronaut.guice.processor;
 
 import com.google.inject.Module;
 import com.google.inject.Provides;
+import io.micronaut.aop.InterceptorBinding;
+import io.micronaut.aop.InterceptorKind;
+import io.micronaut.context.annotation.Bean;
+import io.micronaut.context.annotation.DefaultImplementation;
+import io.micronaut.context.annotation.Executable;
 import io.micronaut.context.annotation.Primary;
 import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Secondary;
+import io.micronaut.core.annotation.AnnotationClassValue;
 import io.micronaut.core.annotation.AnnotationMetadata;
+import io.micronaut.core.annotation.AnnotationUtil;
+import io.micronaut.core.annotation.AnnotationValue;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.annotation.Order;
 import io.micronaut.core.util.ArrayUtils;
 import io.micronaut.guice.annotation.Guice;
+import io.micronaut.guice.annotation.internal.GuiceKeyTable;
+import io.micronaut.guice.annotation.internal.GuiceModule;
 import io.micronaut.inject.ast.ClassElement;
 import io.micronaut.inject.ast.ElementQuery;
 import io.micronaut.inject.ast.MethodElement;
@@ -31,9 +43,18 @@ import io.micronaut.inject.ast.beans.BeanElementBuilder;
 import io.micronaut.inject.processing.ProcessingException;
 import io.micronaut.inject.visitor.TypeElementVisitor;
 import io.micronaut.inject.visitor.VisitorContext;
+import io.micronaut.inject.writer.GeneratedFile;
+import java.io.IOException;
+import java.io.Writer;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.StringJoiner;
+import java.util.stream.Collectors;
 
 public class ImportModuleVisitor
     implements TypeElementVisitor<Guice, Object> {
@@ -42,6 +63,10 @@ public class ImportModuleVisitor
     public static final String MEMBER_MODULES = "modules";
     public static final String MEMBER_CLASSES = "classes";
     public static final String MEMBER_PACKAGES = "packages";
+    /**
+     * Processor option that, when set to {@code warn}, reports the problems of the binding graph as warnings instead of failing the compilation.
+     */
+    public static final String OPTION_VALIDATION = "micronaut.guice.validation";
 
     @Override
     public void visitClass(ClassElement element, VisitorContext context) {
@@ -71,10 +96,67 @@ public class ImportModuleVisitor
             }
         }
 
+        ModuleSourceAnalyzer analyzer = ModuleSourceAnalyzer.create(context);
+        List<StaticInterceptorBinding> interceptorBindings = new ArrayList<>();
+        Map<String, ClassElement> bindingTargets = new LinkedHashMap<>();
+        if (analyzer != null) {
+            for (String className : moduleNames) {
+                context.getClassElement(className).ifPresent(moduleElement -> {
+                    interceptorBindings.addAll(analyzer.analyzeInterceptors(moduleElement));
+                    for (ClassElement target : analyzer.analyzeTargets(moduleElement)) {
+                        if (isImportable(target)) {
+                            bindingTargets.putIfAbsent(target.getName(), target);
+                        }
+                    }
+                });
+            }
+        }
+        for (ClassElement classElement : classElements) {
+            bindingTargets.remove(classElement.getName());
+        }
+        for (String className : moduleNames) {
+            // targets created by provider methods are bound to them and left to the runtime
+            context.getClassElement(className).ifPresent(moduleElement -> {
+                for (MethodElement method : moduleElement.getEnclosedElements(ElementQuery.ALL_METHODS.annotated(am -> am.hasAnnotation(Provides.class)))) {
+                    bindingTargets.remove(method.getGenericReturnType().getName());
+                }
+            });
+        }
+        String packageName = element.getPackageName();
+        Set<String> keys = new LinkedHashSet<>();
+        Set<String> importedClasses = new HashSet<>();
+        BindingGraph graph = new BindingGraph();
+        graph.addClass(element);
+        boolean complete = analyzer != null;
         for (ClassElement classElement : classElements) {
             BeanElementBuilder builder = element.addAssociatedBean(classElement);
             builder.inject();
             builder.typed(classElement);
+            intercept(builder, classElement, interceptorBindings);
+            importedClasses.add(classElement.getName());
+            graph.addClass(classElement);
+            addKey(keys, packageName, classElement, false, null);
+            for (ClassElement interfaceElement : classElement.getInterfaces()) {
+                // @ImplementedBy is transformed into @DefaultImplementation
+                if (interfaceElement.stringValue(DefaultImplementation.class).filter(classElement.getName()::equals).isPresent()) {
+                    addKey(keys, packageName, interfaceElement, false, null);
+                }
+            }
+        }
+        for (ClassElement target : bindingTargets.values()) {
+            // targets of the modules' bindings that are not beans are imported like the classes of @Guice(classes=..),
+            // as secondary beans in case they are imported elsewhere, for example with @Import
+            BeanElementBuilder builder = element.addAssociatedBean(target);
+            builder.inject();
+            builder.typed(target);
+            builder.annotate(Secondary.class);
+            if (ArrayUtils.isNotEmpty(envs)) {
+                builder.annotate(Requires.class, env -> env.member("env", envs));
+            }
+            intercept(builder, target, interceptorBindings);
+            importedClasses.add(target.getName());
+            graph.addClass(target);
+            addKey(keys, packageName, target, false, null);
         }
         for (int i = 0; i < moduleNames.length; i++) {
             String className = moduleNames[i];
@@ -101,6 +183,30 @@ public class ImportModuleVisitor
                     beanElementBuilder.annotate(Requires.class, env -> env.member("env", envs));
                 }
                 beanElementBuilder.createWith(primaryConstructor);
+                boolean precompiled = false;
+                if (analyzer != null) {
+                    List<StaticBinding> bindings = analyzer.analyze(moduleElement, importedClasses);
+                    if (bindings != null && writeBindings(element, moduleElement, bindings, envs, context)) {
+                        precompiled = true;
+                        beanElementBuilder.annotate(GuiceModule.class, builder ->
+                            builder.member(GuiceModule.MEMBER_PRECOMPILED, true)
+                        );
+                        for (StaticBinding binding : bindings) {
+                            graph.addBinding(
+                                BindingGraph.keyOf(binding.type(), binding.name() != null ? BindingGraph.namedQualifier(binding.name())
+                                    : binding.qualifier() != null ? BindingGraph.annotationQualifier(binding.qualifier().getName()) : null),
+                                moduleElement,
+                                BindingGraph.injectionPoints(binding.target())
+                            );
+                            String qualifier = binding.name() != null ? namedSource(binding.name())
+                                : binding.qualifier() != null ? qualifierSource(binding.qualifier(), packageName) : null;
+                            if (binding.qualifier() == null || qualifier != null) {
+                                addKey(keys, packageName, binding.type(), false, qualifier);
+                            }
+                        }
+                    }
+                }
+                complete &= precompiled;
                 ElementQuery<MethodElement> producesMethodQuery = ElementQuery.ALL_METHODS
                     .annotated(am -> am.hasAnnotation(Provides.class))
                     .onlyDeclared()
@@ -116,6 +222,8 @@ public class ImportModuleVisitor
                     if (!methodElement.getReturnType().isPublic()) {
                         throw new ProcessingException(methodElement, "Method's annotated with @Produces must return a publicly accessible type");
                     }
+                    addProvidesKey(keys, packageName, methodElement, context);
+                    graph.addBinding(providesKey(methodElement), methodElement, BindingGraph.parameters(methodElement));
                 }
                 beanElementBuilder.produceBeans(producesMethodQuery, childBuilder -> {
                     MethodElement methodElement = (MethodElement) childBuilder.getProducingElement();
@@ -140,15 +248,299 @@ public class ImportModuleVisitor
                 beanElementBuilder.typed(ClassElement.of(Module.class), moduleElement);
             }
         }
+        List<BindingGraph.Problem> problems = graph.validate(complete, context);
+        BindingGraph.report(problems, context, !"warn".equalsIgnoreCase(context.getOptions().get(OPTION_VALIDATION)));
+        if (!keys.isEmpty()) {
+            writeKeyTable(element, keys, complete && problems.isEmpty(), envs, context);
+        }
+    }
+
+    /**
+     * @param methodElement A {@code @Provides} method
+     * @return The key of the binding in the binding graph
+     */
+    private static String providesKey(MethodElement methodElement) {
+        ClassElement type = methodElement.getGenericReturnType();
+        String qualifierName = methodElement.getAnnotationNameByStereotype(AnnotationUtil.QUALIFIER).orElse(null);
+        if (qualifierName == null) {
+            return BindingGraph.keyOf(type, null);
+        }
+        if (qualifierName.equals(AnnotationUtil.NAMED)) {
+            return BindingGraph.keyOf(type, BindingGraph.namedQualifier(methodElement.stringValue(AnnotationUtil.NAMED).orElse("")));
+        }
+        AnnotationValue<?> qualifier = methodElement.getAnnotation(qualifierName);
+        return BindingGraph.keyOf(type, qualifier == null || qualifier.getValues().isEmpty()
+            ? BindingGraph.annotationQualifier(qualifierName)
+            : "@" + qualifierName + qualifier);
+    }
+
+    /**
+     * Adds the key of a {@code @Provides} method if its qualifier can be expressed as a key.
+     *
+     * @param keys The keys
+     * @param packageName The package of the generated key table
+     * @param methodElement The method
+     * @param context The visitor context
+     */
+    private static void addProvidesKey(Set<String> keys, String packageName, MethodElement methodElement, VisitorContext context) {
+        String qualifierName = methodElement.getAnnotationNameByStereotype(AnnotationUtil.QUALIFIER).orElse(null);
+        if (qualifierName == null) {
+            addKey(keys, packageName, methodElement.getGenericReturnType(), true, null);
+        } else if (qualifierName.equals(AnnotationUtil.NAMED)) {
+            methodElement.stringValue(AnnotationUtil.NAMED).ifPresent(name ->
+                addKey(keys, packageName, methodElement.getGenericReturnType(), true, namedSource(name))
+            );
+        } else if (methodElement.getAnnotation(qualifierName).getValues().isEmpty()) {
+            // only marker annotations are equal to the key of their annotation type
+            context.getClassElement(qualifierName)
+                .map(qualifier -> qualifierSource(qualifier, packageName))
+                .ifPresent(qualifier -> addKey(keys, packageName, methodElement.getGenericReturnType(), true, qualifier));
+        }
+    }
+
+    /**
+     * Adds the source of a key if the type can be referenced from the generated key table.
+     *
+     * @param keys The keys
+     * @param packageName The package of the generated key table
+     * @param type The bound type
+     * @param withTypeArguments Whether the type is bound with its type arguments
+     * @param qualifier The source of the binding annotation, if any
+     */
+    private static void addKey(Set<String> keys, String packageName, ClassElement type, boolean withTypeArguments, @Nullable String qualifier) {
+        String typeSource = typeSource(type, packageName, withTypeArguments);
+        if (typeSource == null) {
+            return;
+        }
+        String keyType = typeSource.indexOf('<') > -1
+            ? "new com.google.inject.TypeLiteral<" + typeSource + ">() { }"
+            : typeSource + ".class";
+        keys.add("com.google.inject.Key.get(" + keyType + (qualifier != null ? ", " + qualifier : "") + ")");
+    }
+
+    /**
+     * @param type The type
+     * @param packageName The package of the generated key table
+     * @param withTypeArguments Whether to include the type arguments
+     * @return The source of the type or {@code null} if it cannot be referenced from the generated key table
+     */
+    private static @Nullable String typeSource(ClassElement type, String packageName, boolean withTypeArguments) {
+        if (type.isPrimitive() || type.isArray() || type.isGenericPlaceholder() || type.isWildcard()
+            || (!type.isPublic() && !type.getPackageName().equals(packageName))) {
+            return null;
+        }
+        List<? extends ClassElement> typeArguments = type.getBoundGenericTypes();
+        if (!withTypeArguments || typeArguments.isEmpty()) {
+            return type.getTypeArguments().isEmpty() ? type.getCanonicalName() : null;
+        }
+        StringJoiner joiner = new StringJoiner(", ", type.getCanonicalName() + "<", ">");
+        for (ClassElement typeArgument : typeArguments) {
+            String argumentSource = typeSource(typeArgument, packageName, true);
+            if (argumentSource == null) {
+                return null;
+            }
+            joiner.add(argumentSource);
+        }
+        return joiner.toString();
+    }
+
+    private static String namedSource(String name) {
+        return "com.google.inject.name.Names.named(" + stringLiteral(name) + ")";
+    }
+
+    private static @Nullable String qualifierSource(ClassElement qualifier, String packageName) {
+        String typeSource = typeSource(qualifier, packageName, false);
+        return typeSource != null ? typeSource + ".class" : null;
+    }
+
+    /**
+     * Writes the bean that lists the keys known at compilation time, which the injector dispatches to directly.
+     *
+     * @param element The element annotated with {@code @Guice}
+     * @param keys The sources of the keys
+     * @param validated Whether the binding graph of the declaration is complete and valid
+     * @param envs The environments the modules are active in
+     * @param context The visitor context
+     */
+    private static void writeKeyTable(ClassElement element, Set<String> keys, boolean validated, String[] envs, VisitorContext context) {
+        String packageName = element.getPackageName();
+        String tableName = generatedName(element, "$GuiceKeys");
+        GeneratedFile generatedFile = context.visitGeneratedSourceFile(packageName, tableName, element).orElse(null);
+        if (generatedFile == null) {
+            return;
+        }
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("@jakarta.inject.Singleton\n");
+        source.append("@io.micronaut.core.annotation.Internal\n");
+        appendRequires(source, envs);
+        source.append("final class ").append(tableName).append(" implements ").append(GuiceKeyTable.class.getName()).append(" {\n");
+        source.append("    @Override\n");
+        source.append("    public java.util.List<com.google.inject.Key<?>> keys() {\n");
+        source.append("        return java.util.List.of(\n");
+        source.append(keys.stream().map(key -> "            " + key).collect(Collectors.joining(",\n")));
+        source.append("\n        );\n");
+        source.append("    }\n");
+        if (validated) {
+            source.append("\n    @Override\n");
+            source.append("    public boolean isValidated() {\n");
+            source.append("        return true;\n");
+            source.append("    }\n");
+        }
+        source.append("}\n");
+        try (Writer writer = generatedFile.openWriter()) {
+            writer.write(source.toString());
+        } catch (IOException e) {
+            throw new ProcessingException(element, "Failed to write the key table of the Guice bindings: " + e.getMessage());
+        }
+    }
+
+    /**
+     * @param target The target of a binding
+     * @return Whether the target is a concrete class that is not already a bean and that Guice would construct through
+     * its accessible constructor without parameters
+     */
+    private static boolean isImportable(ClassElement target) {
+        boolean isBean = target.hasStereotype(AnnotationUtil.SCOPE)
+            || target.hasStereotype(Bean.class)
+            || target.hasStereotype(Executable.class)
+            || target.getPrimaryConstructor().filter(constructor -> constructor.hasStereotype(AnnotationUtil.INJECT)).isPresent();
+        if (isBean || target.isAbstract() || target.isInterface() || target.isPrivate() || target.isAnnotation() || target.isEnum()) {
+            return false;
+        }
+        MethodElement constructor = target.getPrimaryConstructor().orElse(null);
+        return constructor != null && !constructor.isPrivate() && constructor.getParameters().length == 0;
+    }
+
+    /**
+     * Adds the Micronaut interceptor bindings for the Guice interceptor bindings that apply to an imported class.
+     * The interceptors themselves are registered when the module is configured at runtime.
+     *
+     * @param builder The bean builder of the imported class
+     * @param classElement The imported class
+     * @param interceptorBindings The Guice interceptor bindings
+     */
+    private static void intercept(BeanElementBuilder builder, ClassElement classElement, List<StaticInterceptorBinding> interceptorBindings) {
+        for (StaticInterceptorBinding interceptorBinding : interceptorBindings) {
+            String annotationName = interceptorBinding.annotationType().getName();
+            AnnotationValue<InterceptorBinding> annotationValue = AnnotationValue.builder(InterceptorBinding.class)
+                .member(AnnotationMetadata.VALUE_MEMBER, new AnnotationClassValue<>(annotationName))
+                .member("kind", InterceptorKind.AROUND)
+                .build();
+            if (interceptorBinding.classLevel()) {
+                if (classElement.hasAnnotation(annotationName)) {
+                    builder.intercept(annotationValue);
+                }
+            } else {
+                ElementQuery<MethodElement> annotatedMethods = ElementQuery.ALL_METHODS
+                    .onlyInstance()
+                    .annotated(am -> am.hasDeclaredAnnotation(annotationName))
+                    .filter(method -> !method.isPrivate() && !method.isFinal());
+                builder.withMethods(annotatedMethods, method -> method.intercept(annotationValue));
+            }
+        }
+    }
+
+    /**
+     * Writes a factory that declares the bindings of a module evaluated at compilation time. The factory is specific to
+     * the {@code @Guice} declaration, since it is only active in its environments, and originates from both elements.
+     *
+     * @param element The element annotated with {@code @Guice}
+     * @param moduleElement The module
+     * @param bindings The bindings
+     * @param envs The environments the module is active in
+     * @param context The visitor context
+     * @return Whether the bindings were written
+     */
+    private static boolean writeBindings(ClassElement element, ClassElement moduleElement, List<StaticBinding> bindings, String[] envs, VisitorContext context) {
+        if (bindings.isEmpty()) {
+            return true;
+        }
+        // in the package of the module, which the bound types are accessible from
+        String packageName = moduleElement.getPackageName();
+        String factoryName = generatedName(moduleElement, "$" + element.getName().replace('.', '_').replace('$', '_') + "$GuiceBindings");
+        GeneratedFile generatedFile = context.visitGeneratedSourceFile(packageName, factoryName, element, moduleElement).orElse(null);
+        if (generatedFile == null) {
+            return false;
+        }
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("@io.micronaut.context.annotation.Factory\n");
+        source.append("@io.micronaut.core.annotation.Internal\n");
+        appendRequires(source, envs);
+        source.append("final class ").append(factoryName).append(" {\n");
+        for (int i = 0; i < bindings.size(); i++) {
+            StaticBinding binding = bindings.get(i);
+            String type = binding.type().getCanonicalName();
+            source.append("    @io.micronaut.context.annotation.Bean(typed = ").append(type).append(".class)\n");
+            if (binding.name() != null) {
+                source.append("    @jakarta.inject.Named(").append(stringLiteral(binding.name())).append(")\n");
+            } else if (binding.qualifier() != null) {
+                source.append("    @").append(binding.qualifier().getCanonicalName()).append("\n");
+            } else {
+                source.append("    @io.micronaut.context.annotation.Primary\n");
+            }
+            switch (binding.scope()) {
+                case SINGLETON -> source.append("    @jakarta.inject.Singleton\n");
+                case EAGER_SINGLETON -> source.append("    @io.micronaut.context.annotation.Context\n");
+                default -> {
+                    // unscoped
+                }
+            }
+            source.append("    ").append(type).append(" binding").append(i)
+                .append("(").append(binding.target().getCanonicalName()).append(" target) {\n")
+                .append("        return target;\n")
+                .append("    }\n");
+        }
+        source.append("}\n");
+        try (Writer writer = generatedFile.openWriter()) {
+            writer.write(source.toString());
+        } catch (IOException e) {
+            throw new ProcessingException(moduleElement, "Failed to write compile time bindings for Guice module: " + e.getMessage());
+        }
+        return true;
+    }
+
+    private static String generatedName(ClassElement element, String suffix) {
+        String packageName = element.getPackageName();
+        String simpleName = packageName.isEmpty() ? element.getName() : element.getName().substring(packageName.length() + 1);
+        return "$" + simpleName.replace('$', '_') + suffix;
+    }
+
+    private static void appendRequires(StringBuilder source, String[] envs) {
+        if (ArrayUtils.isNotEmpty(envs)) {
+            source.append("@io.micronaut.context.annotation.Requires(env = {");
+            for (int i = 0; i < envs.length; i++) {
+                if (i > 0) {
+                    source.append(", ");
+                }
+                source.append(stringLiteral(envs[i]));
+            }
+            source.append("})\n");
+        }
+    }
+
+    private static String stringLiteral(String value) {
+        return '"' + value.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
     }
 
     @Override
     public VisitorKind getVisitorKind() {
-        return VisitorKind.ISOLATING;
+        // the generated files depend on the sources of the imported modules
+        return VisitorKind.AGGREGATING;
     }
 
     @Override
     public Set<String> getSupportedAnnotationNames() {
         return Set.of(Guice.class.getName());
     }
+
+    @Override
+    public Set<String> getSupportedOptions() {
+        return Set.of(OPTION_VALIDATION);
+    }
 }
@@ -0,0 +1,461 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guice.processor;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Scopes;
+import com.google.inject.Singleton;
+import com.sun.source.tree.BlockTree;
+import com.sun.source.tree.ClassTree;
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.source.tree.ExpressionStatementTree;
+import com.sun.source.tree.ExpressionTree;
+import com.sun.source.tree.IdentifierTree;
+import com.sun.source.tree.ImportTree;
+import com.sun.source.tree.LiteralTree;
+import com.sun.source.tree.MemberSelectTree;
+import com.sun.source.tree.MethodInvocationTree;
+import com.sun.source.tree.MethodTree;
+import com.sun.source.tree.StatementTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.util.TreePath;
+import com.sun.source.util.TreeScanner;
+import com.sun.source.util.Trees;
+import io.micronaut.annotation.processing.visitor.JavaVisitorContext;
+import io.micronaut.context.annotation.Bean;
+import io.micronaut.core.annotation.AnnotationUtil;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.reflect.ClassUtils;
+import io.micronaut.inject.ast.ClassElement;
+import io.micronaut.inject.visitor.VisitorContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+
+/**
+ * Evaluates the {@code configure()} method of Guice modules that are part of the current compilation.
+ *
+ * <p>Only modules that directly extend {@link AbstractModule} and whose {@code configure()} method consists solely of
+ * statements in the form {@code bind(A.class)[.annotatedWith(..)].to(B.class)[.in(Singleton.class)|.asEagerSingleton()]}
+ * can be evaluated. Every other module is configured at runtime.</p>
+ *
+ * <p>Interceptor bindings that match classes or methods with {@code Matchers.annotatedWith(..)} are also found, so that
+ * the interceptors can be applied with compile-time AOP, as are the class literal targets of {@code to(..)} and
+ * {@code toProvider(..)} calls, so that they can be imported as beans.</p>
+ */
+@Internal
+final class ModuleSourceAnalyzer {
+    private static final String METHOD_CONFIGURE = "configure";
+    private static final String METHOD_BINDER = "binder";
+    private static final String METHOD_BIND = "bind";
+    private static final String METHOD_ANNOTATED_WITH = "annotatedWith";
+    private static final String METHOD_TO = "to";
+    private static final String METHOD_TO_PROVIDER = "toProvider";
+    private static final String METHOD_IN = "in";
+    private static final String METHOD_AS_EAGER_SINGLETON = "asEagerSingleton";
+    private static final String METHOD_NAMED = "named";
+    private static final String METHOD_BIND_INTERCEPTOR = "bindInterceptor";
+    private static final String METHOD_ANY = "any";
+    private static final Set<String> SINGLETON_SCOPES = Set.of(
+        Singleton.class.getName(),
+        AnnotationUtil.SINGLETON
+    );
+
+    private static final boolean JAVA_VISITOR_CONTEXT_PRESENT = ClassUtils.isPresent(
+        "io.micronaut.annotation.processing.visitor.JavaVisitorContext",
+        ModuleSourceAnalyzer.class.getClassLoader()
+    );
+
+    private final VisitorContext context;
+    private final Trees trees;
+    private final Elements elements;
+
+    private ModuleSourceAnalyzer(VisitorContext context, Trees trees, Elements elements) {
+        this.context = context;
+        this.trees = trees;
+        this.elements = elements;
+    }
+
+    /**
+     * Creates an analyzer for the given context.
+     *
+     * @param context The visitor context
+     * @return The analyzer or {@code null} if the sources are not available (non-javac compilation)
+     */
+    static @Nullable ModuleSourceAnalyzer create(VisitorContext context) {
+        if (!JAVA_VISITOR_CONTEXT_PRESENT) {
+            // micronaut-inject-java is not on the processor path, for example with Groovy or KSP
+            return null;
+        }
+        return JavacSupport.create(context);
+    }
+
+    /**
+     * Evaluates the bindings of the given module.
+     *
+     * @param moduleElement The module
+     * @param importedClasses The names of the classes imported as beans with {@code @Guice(classes=..)}
+     * @return The bindings or {@code null} if the module cannot be evaluated at compilation time
+     */
+    @Nullable
+    List<StaticBinding> analyze(@NonNull ClassElement moduleElement, @NonNull Set<String> importedClasses) {
+        TreePath classPath = findClassPath(moduleElement);
+        if (classPath == null) {
+            return null;
+        }
+        ClassTree classTree = (ClassTree) classPath.getLeaf();
+        MethodTree configure = null;
+        for (Tree member : classTree.getMembers()) {
+            if (member instanceof MethodTree method && method.getName().contentEquals(METHOD_CONFIGURE)) {
+                if (!method.getParameters().isEmpty()) {
+                    // configure(Binder) is overridden
+                    return null;
+                }
+                configure = method;
+            }
+        }
+        if (configure == null) {
+            return List.of();
+        }
+        BlockTree body = configure.getBody();
+        if (body == null) {
+            return null;
+        }
+        NameResolver resolver = new NameResolver(classPath.getCompilationUnit(), moduleElement);
+        List<StaticBinding> bindings = new ArrayList<>(body.getStatements().size());
+        for (StatementTree statement : body.getStatements()) {
+            if (!(statement instanceof ExpressionStatementTree expressionStatement)) {
+                return null;
+            }
+            StaticBinding binding = toBinding(expressionStatement.getExpression(), resolver);
+            if (binding == null || !isSupported(binding, moduleElement.getPackageName(), importedClasses)) {
+                return null;
+            }
+            bindings.add(binding);
+        }
+        return bindings;
+    }
+
+    /**
+     * Finds the interceptor bindings of the given module that match annotated classes or methods.
+     *
+     * @param moduleElement The module
+     * @return The interceptor bindings
+     */
+    @NonNull
+    List<StaticInterceptorBinding> analyzeInterceptors(@NonNull ClassElement moduleElement) {
+        TreePath classPath = findClassPath(moduleElement);
+        if (classPath == null) {
+            return List.of();
+        }
+        NameResolver resolver = new NameResolver(classPath.getCompilationUnit(), moduleElement);
+        List<StaticInterceptorBinding> interceptorBindings = new ArrayList<>();
+        for (Tree member : ((ClassTree) classPath.getLeaf()).getMembers()) {
+            if (member instanceof MethodTree method && method.getName().contentEquals(METHOD_CONFIGURE) && method.getBody() != null) {
+                for (StatementTree statement : method.getBody().getStatements()) {
+                    if (statement instanceof ExpressionStatementTree expressionStatement
+                        && expressionStatement.getExpression() instanceof MethodInvocationTree invocation) {
+                        StaticInterceptorBinding interceptorBinding = toInterceptorBinding(invocation, resolver);
+                        if (interceptorBinding != null) {
+                            interceptorBindings.add(interceptorBinding);
+                        }
+                    }
+                }
+            }
+        }
+        return interceptorBindings;
+    }
+
+    /**
+     * Finds the classes that the given module binds to with {@code to(X.class)} or {@code toProvider(X.class)},
+     * anywhere in its {@code configure()} method.
+     *
+     * @param moduleElement The module
+     * @return The target classes
+     */
+    @NonNull
+    List<ClassElement> analyzeTargets(@NonNull ClassElement moduleElement) {
+        TreePath classPath = findClassPath(moduleElement);
+        if (classPath == null) {
+            return List.of();
+        }
+        NameResolver resolver = new NameResolver(classPath.getCompilationUnit(), moduleElement);
+        List<ClassElement> targets = new ArrayList<>();
+        TreeScanner<Void, Void> scanner = new TreeScanner<Void, Void>() {
+            @Override
+            public Void visitMethodInvocation(MethodInvocationTree invocation, Void unused) {
+                if (isCall(invocation, METHOD_TO, 1) || isCall(invocation, METHOD_TO_PROVIDER, 1)) {
+                    ClassElement target = resolver.classLiteral(invocation.getArguments().get(0));
+                    if (target != null) {
+                        targets.add(target);
+                    }
+                }
+                return super.visitMethodInvocation(invocation, unused);
+            }
+        };
+        for (Tree member : ((ClassTree) classPath.getLeaf()).getMembers()) {
+            if (member instanceof MethodTree method && method.getName().contentEquals(METHOD_CONFIGURE) && method.getBody() != null) {
+                scanner.scan(method.getBody(), null);
+            }
+        }
+        return targets;
+    }
+
+    private static @Nullable StaticInterceptorBinding toInterceptorBinding(MethodInvocationTree invocation, NameResolver resolver) {
+        List<? extends ExpressionTree> arguments = invocation.getArguments();
+        if (arguments.size() < 3 || !isCall(invocation, METHOD_BIND_INTERCEPTOR, arguments.size())) {
+            return null;
+        }
+        ExpressionTree classMatcher = arguments.get(0);
+        ExpressionTree methodMatcher = arguments.get(1);
+        if (isAnyMatcher(classMatcher)) {
+            ClassElement annotationType = annotatedWithType(methodMatcher, resolver);
+            return annotationType != null ? new StaticInterceptorBinding(annotationType, false) : null;
+        }
+        if (isAnyMatcher(methodMatcher)) {
+            ClassElement annotationType = annotatedWithType(classMatcher, resolver);
+            return annotationType != null ? new StaticInterceptorBinding(annotationType, true) : null;
+        }
+        return null;
+    }
+
+    private static boolean isAnyMatcher(ExpressionTree matcher) {
+        return matcher instanceof MethodInvocationTree invocation && isCall(invocation, METHOD_ANY, 0);
+    }
+
+    private static @Nullable ClassElement annotatedWithType(ExpressionTree matcher, NameResolver resolver) {
+        if (matcher instanceof MethodInvocationTree invocation && isCall(invocation, METHOD_ANNOTATED_WITH, 1)) {
+            ClassElement annotationType = resolver.classLiteral(invocation.getArguments().get(0));
+            return annotationType != null && annotationType.isAnnotation() ? annotationType : null;
+        }
+        return null;
+    }
+
+    private @Nullable TreePath findClassPath(ClassElement moduleElement) {
+        boolean isAbstractModule = moduleElement.getSuperType()
+            .map(superType -> superType.getName().equals(AbstractModule.class.getName()))
+            .orElse(false);
+        if (!isAbstractModule) {
+            return null;
+        }
+        TypeElement typeElement = elements.getTypeElement(moduleElement.getCanonicalName());
+        if (typeElement == null) {
+            return null;
+        }
+        TreePath path = trees.getPath(typeElement);
+        if (path != null && path.getLeaf() instanceof ClassTree) {
+            return path;
+        }
+        // not part of the current compilation
+        return null;
+    }
+
+    private @Nullable StaticBinding toBinding(ExpressionTree expression, NameResolver resolver) {
+        List<MethodInvocationTree> chain = new ArrayList<>();
+        ExpressionTree current = expression;
+        while (current instanceof MethodInvocationTree invocation) {
+            chain.add(0, invocation);
+            current = invocation.getMethodSelect() instanceof MemberSelectTree memberSelect ? memberSelect.getExpression() : null;
+        }
+        if (current != null || chain.isEmpty()) {
+            return null;
+        }
+        int i = 0;
+        if (isCall(chain.get(i), METHOD_BINDER, 0)) {
+            i++;
+        }
+        if (i >= chain.size() || !isCall(chain.get(i), METHOD_BIND, 1)) {
+            return null;
+        }
+        ClassElement type = resolver.classLiteral(chain.get(i++).getArguments().get(0));
+        if (type == null) {
+            return null;
+        }
+        ClassElement qualifier = null;
+        String name = null;
+        if (i < chain.size() && isCall(chain.get(i), METHOD_ANNOTATED_WITH, 1)) {
+            ExpressionTree argument = chain.get(i++).getArguments().get(0);
+            name = namedValue(argument);
+            if (name == null) {
+                qualifier = resolver.classLiteral(argument);
+                if (qualifier == null) {
+                    return null;
+                }
+            }
+        }
+        if (i >= chain.size() || !isCall(chain.get(i), METHOD_TO, 1)) {
+            return null;
+        }
+        ClassElement target = resolver.classLiteral(chain.get(i++).getArguments().get(0));
+        if (target == null) {
+            return null;
+        }
+        StaticBinding.Scope scope = StaticBinding.Scope.NONE;
+        if (i < chain.size()) {
+            MethodInvocationTree scopeCall = chain.get(i++);
+            if (isCall(scopeCall, METHOD_AS_EAGER_SINGLETON, 0)) {
+                scope = StaticBinding.Scope.EAGER_SINGLETON;
+            } else if (isCall(scopeCall, METHOD_IN, 1) && isSingleton(scopeCall.getArguments().get(0), resolver)) {
+                scope = StaticBinding.Scope.SINGLETON;
+            } else {
+                return null;
+            }
+        }
+        if (i != chain.size()) {
+            return null;
+        }
+        return new StaticBinding(type, target, qualifier, name, scope);
+    }
+
+    private static boolean isSupported(StaticBinding binding, String packageName, Set<String> importedClasses) {
+        ClassElement target = binding.target();
+        boolean isBean = importedClasses.contains(target.getName())
+            || target.hasStereotype(AnnotationUtil.SCOPE)
+            || target.hasStereotype(Bean.class);
+        return isBean
+            && !target.isAbstract()
+            && !target.isInterface()
+            && target.isAssignable(binding.type())
+            && isAccessible(binding.type(), packageName)
+            && isAccessible(target, packageName)
+            && (binding.qualifier() == null || isAccessible(binding.qualifier(), packageName));
+    }
+
+    private static boolean isAccessible(ClassElement element, String packageName) {
+        return element.isPublic() || !element.isPrivate() && element.getPackageName().equals(packageName);
+    }
+
+    private static boolean isSingleton(ExpressionTree argument, NameResolver resolver) {
+        if (argument instanceof MemberSelectTree memberSelect && memberSelect.getIdentifier().contentEquals("SINGLETON")) {
+            ClassElement scopes = resolver.resolve(memberSelect.getExpression().toString());
+            return scopes != null && scopes.getName().equals(Scopes.class.getName());
+        }
+        ClassElement scope = resolver.classLiteral(argument);
+        return scope != null && SINGLETON_SCOPES.contains(scope.getName());
+    }
+
+    private static @Nullable String namedValue(ExpressionTree argument) {
+        if (argument instanceof MethodInvocationTree invocation
+            && isCall(invocation, METHOD_NAMED, 1)
+            && invocation.getArguments().get(0) instanceof LiteralTree literal
+            && literal.getValue() instanceof String value) {
+            return value;
+        }
+        return null;
+    }
+
+    private static boolean isCall(MethodInvocationTree invocation, String methodName, int argumentCount) {
+        ExpressionTree select = invocation.getMethodSelect();
+        boolean nameMatches;
+        if (select instanceof IdentifierTree identifier) {
+            nameMatches = identifier.getName().contentEquals(methodName);
+        } else if (select instanceof MemberSelectTree memberSelect) {
+            nameMatches = memberSelect.getIdentifier().contentEquals(methodName);
+        } else {
+            nameMatches = false;
+        }
+        return nameMatches && invocation.getArguments().size() == argumentCount;
+    }
+
+    /**
+     * Resolves class literals against the imports of a compilation unit without attributing the tree.
+     */
+    private final class NameResolver {
+        private final CompilationUnitTree compilationUnit;
+        private final ClassElement moduleElement;
+
+        NameResolver(CompilationUnitTree compilationUnit, ClassElement moduleElement) {
+            this.compilationUnit = compilationUnit;
+            this.moduleElement = moduleElement;
+        }
+
+        @Nullable
+        ClassElement classLiteral(ExpressionTree expression) {
+            if (expression instanceof MemberSelectTree memberSelect && memberSelect.getIdentifier().contentEquals("class")) {
+                return resolve(memberSelect.getExpression().toString());
+            }
+            return null;
+        }
+
+        /**
+         * Resolves a type name in the order of the scoping rules of Java: member types of the module and of its
+         * enclosing classes shadow single-type imports, which shadow the types of the package, which shadow
+         * on-demand imports.
+         *
+         * @param name The simple or qualified name as written in the source
+         * @return The type or {@code null} if it cannot be resolved
+         */
+        @Nullable
+        ClassElement resolve(String name) {
+            int i = name.indexOf('.');
+            String first = i == -1 ? name : name.substring(0, i);
+            String rest = i == -1 ? "" : name.substring(i);
+            List<String> candidates = new ArrayList<>();
+            ClassElement enclosing = moduleElement;
+            while (enclosing != null) {
+                candidates.add(enclosing.getCanonicalName() + "." + name);
+                enclosing = enclosing.getEnclosingType().orElse(null);
+            }
+            List<String> onDemandImports = new ArrayList<>();
+            for (ImportTree importTree : compilationUnit.getImports()) {
+                if (importTree.isStatic()) {
+                    continue;
+                }
+                String imported = importTree.getQualifiedIdentifier().toString();
+                if (imported.endsWith(".*")) {
+                    onDemandImports.add(imported.substring(0, imported.length() - 1) + name);
+                } else if (imported.endsWith("." + first)) {
+                    candidates.add(imported + rest);
+                }
+            }
+            ExpressionTree packageName = compilationUnit.getPackageName();
+            candidates.add(packageName != null ? packageName + "." + name : name);
+            candidates.addAll(onDemandImports);
+            candidates.add("java.lang." + name);
+            candidates.add(name);
+            for (String candidate : candidates) {
+                ClassElement classElement = context.getClassElement(candidate).orElse(null);
+                if (classElement != null) {
+                    return classElement;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Access to the javac APIs, only loaded when micronaut-inject-java is present.
+     */
+    private static final class JavacSupport {
+        static @Nullable ModuleSourceAnalyzer create(VisitorContext context) {
+            if (context instanceof JavaVisitorContext javaVisitorContext) {
+                ProcessingEnvironment processingEnv = javaVisitorContext.getProcessingEnv();
+                try {
+                    return new ModuleSourceAnalyzer(context, Trees.instance(processingEnv), processingEnv.getElementUtils());
+                } catch (IllegalArgumentException e) {
+                    // not running within javac
+                    return null;
+                }
+            }
+            return null;
+        }
+    }
+}
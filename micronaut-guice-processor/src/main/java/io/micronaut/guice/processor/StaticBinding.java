@@ -0,0 +1,48 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guice.processor;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.inject.ast.ClassElement;
+
+/**
+ * A binding of a Guice module that was evaluated at compilation time.
+ *
+ * @param type The bound type
+ * @param target The target implementation type
+ * @param qualifier The binding annotation, if any
+ * @param name The name of the binding, if any
+ * @param scope The scope of the binding
+ */
+@Internal
+record StaticBinding(
+    @NonNull ClassElement type,
+    @NonNull ClassElement target,
+    @Nullable ClassElement qualifier,
+    @Nullable String name,
+    @NonNull Scope scope) {
+
+    /**
+     * The scopes that can be evaluated at compilation time.
+     */
+    enum Scope {
+        NONE,
+        SINGLETON,
+        EAGER_SINGLETON
+    }
+}
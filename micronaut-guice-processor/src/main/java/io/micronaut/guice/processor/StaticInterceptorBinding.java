@@ -0,0 +1,32 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guice.processor;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.inject.ast.ClassElement;
+
+/**
+ * An interceptor binding of a Guice module in the form
+ * {@code bindInterceptor(any(), annotatedWith(A.class), ..)} or {@code bindInterceptor(annotatedWith(A.class), any(), ..)}
+ * that was found at compilation time.
+ *
+ * @param annotationType The annotation matched by {@code annotatedWith(..)}
+ * @param classLevel Whether the annotation is matched on the class, otherwise on the methods
+ */
+@Internal
+record StaticInterceptorBinding(@NonNull ClassElement annotationType, boolean classLevel) {
+}
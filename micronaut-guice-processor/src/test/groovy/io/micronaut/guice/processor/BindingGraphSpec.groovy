@@ -0,0 +1,172 @@
+package io.micronaut.guice.processor
+
+import io.micronaut.annotation.processing.test.AbstractTypeElementSpec
+import io.micronaut.guice.annotation.internal.GuiceKeyTable
+
+class BindingGraphSpec
+    extends AbstractTypeElementSpec {
+
+    void "test the binding graph of precompiled modules is validated"() {
+        given:
+        def context = buildContext("test.Test", '''
+package test;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.BindingAnnotation;
+import com.google.inject.Inject;
+import io.micronaut.guice.annotation.Guice;
+import jakarta.inject.Singleton;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+class SimpleModule extends AbstractModule {
+    @Override protected void configure() {
+        bind(ITest.class).annotatedWith(One.class).to(TestImpl.class);
+    }
+}
+
+interface ITest {}
+
+@Singleton
+class TestImpl implements ITest {
+}
+
+@Singleton
+@Two
+class OtherImpl implements ITest {
+}
+
+@Retention(RetentionPolicy.RUNTIME)
+@BindingAnnotation
+@interface One {}
+
+@Retention(RetentionPolicy.RUNTIME)
+@BindingAnnotation
+@interface Two {}
+
+@Guice(modules = SimpleModule.class)
+class Test {
+    @Inject @One public ITest one;
+    @Inject @Two public ITest two;
+}
+''', true)
+
+        expect:
+        context.getBean(GuiceKeyTable).isValidated()
+        def bean = getBean(context, 'test.Test')
+        bean.one.getClass().simpleName == 'TestImpl'
+        bean.two.getClass().simpleName == 'OtherImpl'
+    }
+
+    void "test unsatisfied dependencies fail the compilation"() {
+        when:
+        buildContext("test.Test", '''
+package test;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.BindingAnnotation;
+import com.google.inject.Inject;
+import io.micronaut.guice.annotation.Guice;
+import jakarta.inject.Singleton;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+class SimpleModule extends AbstractModule {
+    @Override protected void configure() {
+        bind(ITest.class).annotatedWith(One.class).to(TestImpl.class);
+    }
+}
+
+interface ITest {}
+
+@Singleton
+class TestImpl implements ITest {
+}
+
+@Retention(RetentionPolicy.RUNTIME)
+@BindingAnnotation
+@interface One {}
+
+@Retention(RetentionPolicy.RUNTIME)
+@BindingAnnotation
+@interface Two {}
+
+@Guice(modules = SimpleModule.class)
+class Test {
+    @Inject @Two public ITest two;
+}
+''', true)
+
+        then:
+        def e = thrown(RuntimeException)
+        e.message.contains("No implementation for test.ITest@test.Two was bound")
+    }
+
+    void "test unsatisfied unqualified dependencies fail the compilation"() {
+        when:
+        buildContext("test.Test", '''
+package test;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Inject;
+import io.micronaut.guice.annotation.Guice;
+import jakarta.inject.Singleton;
+
+class SimpleModule extends AbstractModule {
+    @Override protected void configure() {
+        bind(ITest.class).to(TestImpl.class);
+    }
+}
+
+interface ITest {}
+
+interface IOther {}
+
+@Singleton
+class TestImpl implements ITest {
+}
+
+@Guice(modules = SimpleModule.class)
+class Test {
+    @Inject public ITest test;
+    @Inject public IOther other;
+}
+''', true)
+
+        then:
+        def e = thrown(RuntimeException)
+        e.message.contains("No implementation for test.IOther was bound")
+        !e.message.contains("No implementation for test.ITest")
+    }
+
+    void "test duplicate bindings fail the compilation"() {
+        when:
+        buildContext("test.Test", '''
+package test;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Provides;
+import io.micronaut.guice.annotation.Guice;
+
+class SimpleModule extends AbstractModule {
+    @Provides
+    public String first() {
+        return "first";
+    }
+
+    @Provides
+    public String second() {
+        return "second";
+    }
+}
+
+@Guice(modules = SimpleModule.class)
+class Test {
+}
+''', true)
+
+        then:
+        def e = thrown(RuntimeException)
+        e.message.contains("A binding to java.lang.String was already configured")
+    }
+}
@@ -1,6 +1,7 @@
 package io.micronaut.guice.processor
 
 import com.google.inject.Module
+import io.micronaut.guice.annotation.internal.GuiceModule
 import io.micronaut.annotation.processing.test.AbstractTypeElementSpec
 
 class ImportModulesSpec
@@ -296,4 +297,154 @@ class Test {
         bean.test2.getClass().simpleName == 'TestImpl'
         bean.test1 == bean.test2
     }
+
+    void "test binding targets that are not beans are imported"() {
+        given:
+        def context = buildContext("test.Test", '''
+package test;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Inject;
+import com.google.inject.name.Names;
+import io.micronaut.guice.annotation.Guice;
+
+class SimpleModule extends AbstractModule {
+    @Override protected void configure() {
+        bind(ITest.class).to(TestImpl.class);
+        bind(String.class).annotatedWith(Names.named("name")).toProvider(NameProvider.class);
+    }
+}
+
+interface ITest {}
+
+class TestImpl implements ITest {
+}
+
+class NameProvider implements jakarta.inject.Provider<String> {
+    @Override
+    public String get() {
+        return "test";
+    }
+}
+
+@Guice(modules = SimpleModule.class)
+class Test {
+    @Inject public ITest test;
+    @Inject @com.google.inject.name.Named("name") public String name;
+}
+''', true)
+
+        expect:
+        def bean = getBean(context, 'test.Test')
+        bean.test.getClass().simpleName == 'TestImpl'
+        bean.name == 'test'
+    }
+
+    void "test modules binding to imported targets are precompiled"() {
+        given:
+        def context = buildContext("test.Test", '''
+package test;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Inject;
+import io.micronaut.guice.annotation.Guice;
+
+class SimpleModule extends AbstractModule {
+    @Override protected void configure() {
+        bind(ITest.class).to(TestImpl.class);
+    }
+}
+
+interface ITest {}
+
+class TestImpl implements ITest {
+}
+
+@Guice(modules = SimpleModule.class)
+class Test {
+    @Inject public ITest test;
+}
+''', true)
+
+        expect:
+        context.getBeanDefinition(Module.class).isTrue(GuiceModule.class, GuiceModule.MEMBER_PRECOMPILED)
+        getBean(context, 'test.Test').test.getClass().simpleName == 'TestImpl'
+    }
+
+    void "test binding targets without an accessible constructor are left to the runtime"() {
+        when:
+        buildContext("test.Test", '''
+package test;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Inject;
+import io.micronaut.guice.annotation.Guice;
+
+class SimpleModule extends AbstractModule {
+    @Override protected void configure() {
+        bind(ITest.class).to(TestImpl.class);
+    }
+}
+
+interface ITest {}
+
+class TestImpl implements ITest {
+    private TestImpl() {
+    }
+}
+
+@Guice(modules = SimpleModule.class)
+class Test {
+    @Inject public ITest test;
+}
+''', true)
+
+        then:
+        def e = thrown(RuntimeException)
+        def messages = []
+        for (Throwable t = e; t != null; t = t.cause) {
+            messages << t.message
+        }
+        messages.any { it?.contains("Failed to import modules") }
+    }
+
+    void "test binding targets created by provider methods are not imported"() {
+        given:
+        def context = buildContext("test.Test", '''
+package test;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Inject;
+import com.google.inject.Provides;
+import io.micronaut.guice.annotation.Guice;
+
+class SimpleModule extends AbstractModule {
+    @Override protected void configure() {
+        bind(ITest.class).to(TestImpl.class);
+    }
+
+    @Provides
+    public TestImpl testImpl() {
+        TestImpl impl = new TestImpl();
+        impl.name = "provided";
+        return impl;
+    }
+}
+
+interface ITest {}
+
+class TestImpl implements ITest {
+    public String name;
+}
+
+@Guice(modules = SimpleModule.class)
+class Test {
+    @Inject public ITest test;
+}
+''', true)
+
+        expect:
+        context.getBeanDefinitions(context.classLoader.loadClass('test.TestImpl')).size() == 1
+        getBean(context, 'test.Test').test.name == 'provided'
+    }
 }
@@ -0,0 +1,110 @@
+package io.micronaut.guice.processor
+
+import io.micronaut.annotation.processing.test.AbstractTypeElementSpec
+
+class InterceptorSpec
+    extends AbstractTypeElementSpec {
+
+    void "test interceptors bound to annotated methods"() {
+        given:
+        def context = buildContext("test.Test", '''
+package test;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Inject;
+import com.google.inject.matcher.Matchers;
+import io.micronaut.guice.annotation.Guice;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+class InterceptorModule extends AbstractModule {
+    @Override protected void configure() {
+        bindInterceptor(Matchers.any(), Matchers.annotatedWith(Shout.class), new ShoutInterceptor());
+    }
+}
+
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@interface Shout {}
+
+class ShoutInterceptor implements MethodInterceptor {
+    @Override public Object invoke(MethodInvocation invocation) throws Throwable {
+        return invocation.getMethod().getName() + ":" + ((String) invocation.proceed()).toUpperCase();
+    }
+}
+
+class Greeter {
+    @Shout public String greet(String name) {
+        return "hello " + name;
+    }
+
+    public String whisper(String name) {
+        return "hello " + name;
+    }
+}
+
+@Guice(modules = InterceptorModule.class, classes = Greeter.class)
+class Test {
+    @Inject public Greeter greeter;
+}
+''', true)
+
+        expect:
+        def greeter = getBean(context, 'test.Test').greeter
+        greeter.greet("fred") == 'greet:HELLO FRED'
+        greeter.whisper("fred") == 'hello fred'
+    }
+
+    void "test interceptors bound to annotated classes"() {
+        given:
+        def context = buildContext("test.Test", '''
+package test;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Inject;
+import com.google.inject.matcher.Matchers;
+import io.micronaut.guice.annotation.Guice;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+class InterceptorModule extends AbstractModule {
+    @Override protected void configure() {
+        bindInterceptor(Matchers.annotatedWith(Shout.class), Matchers.any(), new ShoutInterceptor());
+    }
+}
+
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@interface Shout {}
+
+class ShoutInterceptor implements MethodInterceptor {
+    @Override public Object invoke(MethodInvocation invocation) throws Throwable {
+        return ((String) invocation.proceed()).toUpperCase();
+    }
+}
+
+@Shout
+class Greeter {
+    public String greet(String name) {
+        return "hello " + name;
+    }
+}
+
+@Guice(modules = InterceptorModule.class, classes = Greeter.class)
+class Test {
+    @Inject public Greeter greeter;
+}
+''', true)
+
+        expect:
+        getBean(context, 'test.Test').greeter.greet("fred") == 'HELLO FRED'
+    }
+}
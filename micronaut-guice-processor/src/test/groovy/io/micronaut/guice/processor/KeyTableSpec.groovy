@@ -0,0 +1,74 @@
+package io.micronaut.guice.processor
+
+import com.google.inject.Injector
+import com.google.inject.Key
+import com.google.inject.TypeLiteral
+import com.google.inject.name.Names
+import com.google.inject.util.Types
+import io.micronaut.annotation.processing.test.AbstractTypeElementSpec
+import io.micronaut.guice.annotation.internal.GuiceKeyTable
+
+import java.util.function.Supplier
+
+class KeyTableSpec
+    extends AbstractTypeElementSpec {
+
+    void "test keys known at compilation time are listed in a key table"() {
+        given:
+        def context = buildContext("test.Test", '''
+package test;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Provides;
+import com.google.inject.name.Named;
+import io.micronaut.guice.annotation.Guice;
+import jakarta.inject.Singleton;
+import java.util.function.Supplier;
+
+class SimpleModule extends AbstractModule {
+    @Override protected void configure() {
+        bind(ITest.class).to(TestImpl.class);
+    }
+
+    @Provides
+    @Named("greeting")
+    public String greeting() {
+        return "hello";
+    }
+
+    @Provides
+    public Supplier<String> supplier() {
+        return () -> "good";
+    }
+}
+
+interface ITest {}
+
+@Singleton
+class TestImpl implements ITest {
+}
+
+@Singleton
+class Foo {
+}
+
+@Guice(modules = SimpleModule.class, classes = Foo.class)
+class Test {
+}
+''', true)
+        def foo = context.classLoader.loadClass('test.Foo')
+        def iTest = context.classLoader.loadClass('test.ITest')
+        def supplier = Key.get(Types.newParameterizedType(Supplier, String))
+        def greeting = Key.get(String, Names.named("greeting"))
+        def injector = context.getBean(Injector)
+
+        expect:
+        context.getBean(GuiceKeyTable).keys() as Set == [Key.get(foo), Key.get(iTest), greeting, supplier] as Set
+        injector.getProvider(foo).is(injector.getProvider(Key.get(foo)))
+        injector.getInstance(foo).is(context.getBean(foo))
+        injector.getInstance(iTest).getClass().simpleName == 'TestImpl'
+        injector.getInstance(greeting) == 'hello'
+        injector.getInstance(supplier).get() == 'good'
+        injector.getInstance(Key.get(new TypeLiteral<Supplier<String>>() {})).get() == 'good'
+    }
+}
@@ -0,0 +1,161 @@
+package io.micronaut.guice.processor
+
+import com.google.inject.Module
+import io.micronaut.annotation.processing.test.AbstractTypeElementSpec
+import io.micronaut.guice.annotation.internal.GuiceModule
+
+class PrecompiledModuleSpec
+    extends AbstractTypeElementSpec {
+
+    void "test linked bindings are evaluated at compilation time"() {
+        given:
+        def context = buildContext("test.Test", '''
+package test;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.BindingAnnotation;
+import com.google.inject.Inject;
+import com.google.inject.name.Names;
+import io.micronaut.guice.annotation.Guice;
+import jakarta.inject.Singleton;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+class SimpleModule extends AbstractModule {
+    @Override protected void configure() {
+        bind(ITest.class).to(TestImpl.class).in(Singleton.class);
+        bind(ITest.class).annotatedWith(One.class).to(OtherImpl.class);
+        bind(ITest.class).annotatedWith(Names.named("two")).to(OtherImpl.class);
+    }
+}
+
+interface ITest {}
+
+@Singleton
+class TestImpl implements ITest {
+}
+
+@Singleton
+class OtherImpl implements ITest {
+}
+
+@Retention(RetentionPolicy.RUNTIME)
+@BindingAnnotation
+@interface One {}
+
+@Guice(modules = SimpleModule.class)
+class Test {
+    @Inject public ITest test;
+    @Inject @One public ITest one;
+    @Inject @com.google.inject.name.Named("two") public ITest two;
+}
+''', true)
+
+        expect:
+        context.getBeanDefinition(Module.class).isTrue(GuiceModule.class, GuiceModule.MEMBER_PRECOMPILED)
+        def bean = getBean(context, 'test.Test')
+        bean.test.getClass().simpleName == 'TestImpl'
+        bean.one.getClass().simpleName == 'OtherImpl'
+        bean.two.getClass().simpleName == 'OtherImpl'
+    }
+
+    void "test modules that cannot be evaluated are configured at runtime"() {
+        given:
+        def context = buildContext("test.Test", '''
+package test;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Inject;
+import io.micronaut.guice.annotation.Guice;
+
+class SimpleModule extends AbstractModule {
+    @Override protected void configure() {
+        bind(String.class).toInstance("test");
+    }
+}
+
+@Guice(modules = SimpleModule.class)
+class Test {
+    @Inject public String foo;
+}
+''', true)
+
+        expect:
+        !context.getBeanDefinition(Module.class).isTrue(GuiceModule.class, GuiceModule.MEMBER_PRECOMPILED)
+        getBean(context, 'test.Test').foo == 'test'
+    }
+
+    void "test scopes other than Guice's Scopes.SINGLETON are configured at runtime"() {
+        given:
+        def context = buildContext("test.Test", '''
+package test;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Inject;
+import com.google.inject.Scope;
+import com.google.inject.Scopes;
+import io.micronaut.guice.annotation.Guice;
+import jakarta.inject.Singleton;
+
+class SimpleModule extends AbstractModule {
+    @Override protected void configure() {
+        bind(ITest.class).to(TestImpl.class).in(MyScopes.SINGLETON);
+    }
+}
+
+class MyScopes {
+    static final Scope SINGLETON = Scopes.NO_SCOPE;
+}
+
+interface ITest {}
+
+@Singleton
+class TestImpl implements ITest {
+}
+
+@Guice(modules = SimpleModule.class)
+class Test {
+    @Inject public ITest test;
+}
+''', true)
+
+        expect:
+        !context.getBeanDefinition(Module.class).isTrue(GuiceModule.class, GuiceModule.MEMBER_PRECOMPILED)
+    }
+
+    void "test a module can be imported by several declarations"() {
+        given:
+        def context = buildContext("test.Test", '''
+package test;
+
+import com.google.inject.AbstractModule;
+import io.micronaut.guice.annotation.Guice;
+import jakarta.inject.Singleton;
+
+class SimpleModule extends AbstractModule {
+    @Override protected void configure() {
+        bind(ITest.class).to(TestImpl.class);
+    }
+}
+
+interface ITest {}
+
+@Singleton
+class TestImpl implements ITest {
+}
+
+@Guice(modules = SimpleModule.class, environments = "one")
+class Test {
+}
+
+@Guice(modules = SimpleModule.class, environments = "two")
+class Other {
+}
+''', true)
+
+        expect:
+        context.getBeanDefinitions(Module.class).isEmpty()
+        context.classLoader.loadClass('test.$SimpleModule$test_Test$GuiceBindings')
+        context.classLoader.loadClass('test.$SimpleModule$test_Other$GuiceBindings')
+    }
+}
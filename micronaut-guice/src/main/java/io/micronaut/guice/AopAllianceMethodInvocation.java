@@ -0,0 +1,75 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guice;
+
+import io.micronaut.aop.MethodInvocationContext;
+import io.micronaut.core.annotation.Internal;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Method;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * Adapts a Micronaut {@link MethodInvocationContext} to an aopalliance {@link MethodInvocation} that proceeds through
+ * the Guice interceptors of the binding before proceeding with the Micronaut interceptor chain.
+ *
+ * <p>One instance is created per invocation. The reflective {@link Method} is only resolved when an interceptor asks for it.</p>
+ */
+@Internal
+final class AopAllianceMethodInvocation implements MethodInvocation {
+    private final MethodInvocationContext<Object, Object> context;
+    private final MethodInterceptor[] interceptors;
+    private int index;
+    private Method method;
+
+    AopAllianceMethodInvocation(MethodInvocationContext<Object, Object> context, MethodInterceptor[] interceptors) {
+        this.context = context;
+        this.interceptors = interceptors;
+    }
+
+    @Override
+    public Method getMethod() {
+        Method method = this.method;
+        if (method == null) {
+            method = context.getExecutableMethod().getTargetMethod();
+            this.method = method;
+        }
+        return method;
+    }
+
+    @Override
+    public Object[] getArguments() {
+        return context.getParameterValues();
+    }
+
+    @Override
+    public Object proceed() throws Throwable {
+        if (index < interceptors.length) {
+            return interceptors[index++].invoke(this);
+        }
+        return context.proceed();
+    }
+
+    @Override
+    public Object getThis() {
+        return context.getTarget();
+    }
+
+    @Override
+    public AccessibleObject getStaticPart() {
+        return getMethod();
+    }
+}
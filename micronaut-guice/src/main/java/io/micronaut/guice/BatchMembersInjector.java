@@ -0,0 +1,42 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guice;
+
+import io.micronaut.core.annotation.NonNull;
+import java.util.stream.Stream;
+
+/**
+ * Injects the members of many instances at once. The injector of the application implements this interface,
+ * so it can be injected directly or obtained by casting the {@code Injector}.
+ *
+ * <p>The instances are grouped by their type and the injection plan of every type is resolved once.</p>
+ */
+public interface BatchMembersInjector {
+
+    /**
+     * Injects the members of the given instances.
+     *
+     * @param instances The instances
+     */
+    void injectMembers(@NonNull Iterable<?> instances);
+
+    /**
+     * Injects the members of the given instances. The instances of a parallel stream are injected concurrently.
+     *
+     * @param instances The instances
+     */
+    void injectMembers(@NonNull Stream<?> instances);
+}
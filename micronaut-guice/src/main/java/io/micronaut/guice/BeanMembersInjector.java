@@ -0,0 +1,152 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guice;
+
+import com.google.inject.MembersInjector;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.BeanResolutionContext;
+import io.micronaut.context.DefaultBeanResolutionContext;
+import io.micronaut.context.exceptions.NonUniqueBeanException;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.inject.BeanDefinition;
+import io.micronaut.inject.InitializingBeanDefinition;
+import io.micronaut.inject.InjectableBeanDefinition;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Injects the members of the instances of a type. The bean definition generated for the type is resolved once and its
+ * injection code is invoked directly, and instances of a type without injection points are not injected at all.
+ *
+ * <p>The resolved plan is reused until a bean definition is registered through the {@link GuiceBindingRegistry}, like
+ * the providers of the injector, and a batch of instances of the type is injected with a single plan.</p>
+ *
+ * @param <T> The type
+ */
+@Internal
+final class BeanMembersInjector<T> implements MembersInjector<T> {
+    private final ApplicationContext applicationContext;
+    private final GuiceBindingRegistry bindingRegistry;
+    private final Class<T> type;
+    private volatile Plan<T> plan;
+
+    BeanMembersInjector(ApplicationContext applicationContext, GuiceBindingRegistry bindingRegistry, Class<T> type) {
+        this.applicationContext = applicationContext;
+        this.bindingRegistry = bindingRegistry;
+        this.type = type;
+        this.plan = plan(bindingRegistry.generation());
+    }
+
+    @Override
+    public void injectMembers(T instance) {
+        Objects.requireNonNull(instance, "Instance cannot be null");
+        inject(currentPlan(), instance);
+    }
+
+    /**
+     * Injects the members of instances of the type with the same plan.
+     *
+     * @param instances The instances
+     */
+    void injectAll(List<? extends T> instances) {
+        Plan<T> currentPlan = currentPlan();
+        if (!currentPlan.injectable()) {
+            return;
+        }
+        for (T instance : instances) {
+            inject(currentPlan, instance);
+        }
+    }
+
+    private void inject(Plan<T> currentPlan, T instance) {
+        if (instance.getClass() != type) {
+            // a subtype, which has its own definition
+            applicationContext.inject(instance);
+            return;
+        }
+        if (!currentPlan.injectable()) {
+            return;
+        }
+        BeanDefinition<T> definition = currentPlan.definition();
+        if (!(definition instanceof InjectableBeanDefinition<T> injectable)) {
+            // not a generated definition
+            applicationContext.inject(instance);
+            return;
+        }
+        try (BeanResolutionContext resolutionContext = new DefaultBeanResolutionContext(applicationContext, definition)) {
+            T injected = injectable.inject(resolutionContext, applicationContext, instance);
+            if (definition instanceof InitializingBeanDefinition<T> initializing) {
+                initializing.initialize(resolutionContext, applicationContext, injected);
+            }
+        }
+    }
+
+    private Plan<T> currentPlan() {
+        Plan<T> currentPlan = plan;
+        int generation = bindingRegistry.generation();
+        if (currentPlan.generation() != generation) {
+            currentPlan = plan(generation);
+            plan = currentPlan;
+        }
+        return currentPlan;
+    }
+
+    private Plan<T> plan(int generation) {
+        BeanDefinition<T> definition = findDefinition();
+        return new Plan<>(definition, definition != null && hasInjectionPoints(definition), generation);
+    }
+
+    private @Nullable BeanDefinition<T> findDefinition() {
+        // the candidates of an instance are the definitions of its exact type
+        try {
+            BeanDefinition<T> definition = applicationContext.findBeanDefinition(type).orElse(null);
+            if (definition == null || definition.getBeanType() == type) {
+                return definition;
+            }
+        } catch (NonUniqueBeanException e) {
+            // subtypes are beans too
+        }
+        for (BeanDefinition<T> definition : applicationContext.getBeanDefinitions(type)) {
+            if (definition.getBeanType() == type) {
+                return definition;
+            }
+        }
+        return null;
+    }
+
+    private static boolean hasInjectionPoints(BeanDefinition<?> definition) {
+        return !definition.getInjectedFields().isEmpty()
+            || !definition.getInjectedMethods().isEmpty()
+            || !definition.getPostConstructMethods().isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "MembersInjector<" + type.getName() + ">";
+    }
+
+    /**
+     * The injection plan of the type.
+     *
+     * @param definition The definition of the type, if any
+     * @param injectable Whether the definition has injection points
+     * @param generation The generation of the binding registry the plan was resolved in
+     * @param <T> The type
+     */
+    private record Plan<T>(@Nullable BeanDefinition<T> definition, boolean injectable, int generation) {
+    }
+}
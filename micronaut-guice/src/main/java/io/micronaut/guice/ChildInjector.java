@@ -0,0 +1,475 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guice;
+
+import com.google.inject.Binding;
+import com.google.inject.CreationException;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.MembersInjector;
+import com.google.inject.Module;
+import com.google.inject.Provider;
+import com.google.inject.Scope;
+import com.google.inject.Scopes;
+import com.google.inject.Singleton;
+import com.google.inject.TypeLiteral;
+import com.google.inject.spi.ConstructorBinding;
+import com.google.inject.spi.DefaultBindingScopingVisitor;
+import com.google.inject.spi.DefaultBindingTargetVisitor;
+import com.google.inject.spi.DefaultElementVisitor;
+import com.google.inject.spi.Element;
+import com.google.inject.spi.Elements;
+import com.google.inject.spi.InjectionPoint;
+import com.google.inject.spi.InjectionRequest;
+import com.google.inject.spi.InstanceBinding;
+import com.google.inject.spi.LinkedKeyBinding;
+import com.google.inject.spi.MembersInjectorLookup;
+import com.google.inject.spi.Message;
+import com.google.inject.spi.ProviderInstanceBinding;
+import com.google.inject.spi.ProviderKeyBinding;
+import com.google.inject.spi.ProviderLookup;
+import com.google.inject.spi.ScopeBinding;
+import com.google.inject.spi.TypeConverterBinding;
+import com.google.inject.spi.UntargettedBinding;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.annotation.Context;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.type.Argument;
+import io.micronaut.core.util.SupplierUtil;
+import io.micronaut.guice.annotation.ThreadScoped;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * A child {@link Injector} that overlays the bindings of its modules on top of its parent.
+ *
+ * <p>Only the child's own bindings are held, every other lookup is delegated to the parent,
+ * hence creating a child injector does not copy or register any bean definitions. Unlike Guice, bindings of the
+ * child may override bindings of the parent. Members are injected by the parent.</p>
+ */
+@Internal
+final class ChildInjector implements Injector, BatchMembersInjector {
+    private static final Key<Injector> INJECTOR_KEY = Key.get(Injector.class);
+    private static final List<Class<? extends Annotation>> SINGLETON_CLASSES = List.of(
+        Singleton.class,
+        jakarta.inject.Singleton.class
+    );
+
+    private final Injector parent;
+    private final ApplicationContext applicationContext;
+    // recorded into while the child is created, never modified afterwards
+    private final Map<Key<?>, Binding<?>> bindings = new HashMap<>();
+    private final Map<Key<?>, Binding<?>> publishedBindings = Collections.unmodifiableMap(bindings);
+
+    private ChildInjector(Injector parent, ApplicationContext applicationContext) {
+        this.parent = parent;
+        this.applicationContext = applicationContext;
+    }
+
+    /**
+     * Creates a child injector.
+     *
+     * @param parent The parent injector
+     * @param applicationContext The application context
+     * @param modules The modules of the child
+     * @return The child injector
+     */
+    static Injector create(Injector parent, ApplicationContext applicationContext, Iterable<? extends Module> modules) {
+        Objects.requireNonNull(modules, "Modules cannot be null");
+        ChildInjector child = new ChildInjector(parent, applicationContext);
+        ElementRecorder recorder = child.new ElementRecorder();
+        List<Element> elements = Elements.getElements(modules);
+        for (Element element : elements) {
+            if (element instanceof ScopeBinding scopeBinding) {
+                // scopes may be bound after the bindings that use them
+                recorder.scopes.put(scopeBinding.getAnnotationType(), scopeBinding.getScope());
+            }
+        }
+        for (Element element : elements) {
+            element.acceptVisitor(recorder);
+        }
+        if (!recorder.errors.isEmpty()) {
+            throw new CreationException(recorder.errors);
+        }
+        for (Runnable lookup : recorder.lookups) {
+            lookup.run();
+        }
+        for (Provider<?> eagerSingleton : recorder.eagerSingletons) {
+            eagerSingleton.get();
+        }
+        for (Object instance : recorder.toInject) {
+            child.injectMembers(instance);
+        }
+        return child;
+    }
+
+    @Override
+    public void injectMembers(Object instance) {
+        parent.injectMembers(instance);
+    }
+
+    @Override
+    public void injectMembers(Iterable<?> instances) {
+        // the parent is either the injector of the application or another child injector
+        ((BatchMembersInjector) parent).injectMembers(instances);
+    }
+
+    @Override
+    public void injectMembers(Stream<?> instances) {
+        ((BatchMembersInjector) parent).injectMembers(instances);
+    }
+
+    @Override
+    public <T> MembersInjector<T> getMembersInjector(TypeLiteral<T> typeLiteral) {
+        return parent.getMembersInjector(typeLiteral);
+    }
+
+    @Override
+    public <T> MembersInjector<T> getMembersInjector(Class<T> type) {
+        return parent.getMembersInjector(type);
+    }
+
+    @Override
+    public Map<Key<?>, Binding<?>> getBindings() {
+        return publishedBindings;
+    }
+
+    @Override
+    public Map<Key<?>, Binding<?>> getAllBindings() {
+        Map<Key<?>, Binding<?>> allBindings = new HashMap<>(parent.getAllBindings());
+        allBindings.putAll(bindings);
+        return Collections.unmodifiableMap(allBindings);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> Binding<T> getBinding(Key<T> key) {
+        Binding<T> binding = (Binding<T>) bindings.get(key);
+        return binding != null ? binding : parent.getBinding(key);
+    }
+
+    @Override
+    public <T> Binding<T> getBinding(Class<T> type) {
+        return getBinding(Key.get(type));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> Binding<T> getExistingBinding(Key<T> key) {
+        Binding<T> binding = (Binding<T>) bindings.get(key);
+        return binding != null ? binding : parent.getExistingBinding(key);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> List<Binding<T>> findBindingsByType(TypeLiteral<T> type) {
+        List<Binding<T>> found = new ArrayList<>();
+        for (Binding<T> binding : parent.findBindingsByType(type)) {
+            if (!bindings.containsKey(binding.getKey())) {
+                found.add(binding);
+            }
+        }
+        for (Binding<?> binding : bindings.values()) {
+            if (binding.getKey().getTypeLiteral().equals(type)) {
+                found.add((Binding<T>) binding);
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public <T> Provider<T> getProvider(Key<T> key) {
+        Objects.requireNonNull(key, "Key cannot be null");
+        Provider<T> provider = findProvider(key);
+        return provider != null ? provider : parent.getProvider(key);
+    }
+
+    @Override
+    public <T> Provider<T> getProvider(Class<T> type) {
+        Objects.requireNonNull(type, "Type cannot be null");
+        Provider<T> provider = findProvider(Key.get(type));
+        return provider != null ? provider : parent.getProvider(type);
+    }
+
+    @Override
+    public <T> T getInstance(Key<T> key) {
+        return getProvider(key).get();
+    }
+
+    @Override
+    public <T> T getInstance(Class<T> type) {
+        return getProvider(type).get();
+    }
+
+    /**
+     * Finds the provider of a binding of this child injector or of one of its child injector ancestors.
+     *
+     * @param key The key
+     * @param <T> The bound type
+     * @return The provider or {@code null} if the key is bound by the root injector or not bound at all
+     */
+    @SuppressWarnings("unchecked")
+    private <T> @Nullable Provider<T> findProvider(Key<T> key) {
+        if (key.equals(INJECTOR_KEY)) {
+            return () -> (T) this;
+        }
+        Binding<T> binding = (Binding<T>) bindings.get(key);
+        if (binding != null) {
+            return binding.getProvider();
+        }
+        return parent instanceof ChildInjector childParent ? childParent.findProvider(key) : null;
+    }
+
+    /**
+     * Resolves the target of a binding of this injector on first provision.
+     *
+     * @param targetKey The target key
+     * @param source The source of the binding
+     * @param untargetted Whether the binding is untargetted, in which case the target is not looked up in this injector
+     * @param <T> The bound type
+     * @return The provider
+     */
+    @SuppressWarnings("unchecked")
+    private <T> Provider<T> linkedProvider(Key<T> targetKey, Object source, boolean untargetted) {
+        Supplier<Provider<T>> target = SupplierUtil.memoized(() -> {
+            Provider<T> provider;
+            if (!untargetted) {
+                provider = findProvider(targetKey);
+            } else {
+                provider = parent instanceof ChildInjector childParent ? childParent.findProvider(targetKey) : null;
+            }
+            if (provider != null) {
+                return provider;
+            }
+            if (targetKey.getAnnotationType() == null) {
+                // a just in time binding of the root injector
+                LazyBeanProvider<T> lazyBeanProvider = new LazyBeanProvider<>(
+                    applicationContext,
+                    (Argument<T>) Argument.of(targetKey.getTypeLiteral().getType()),
+                    true,
+                    source
+                );
+                return lazyBeanProvider::get;
+            }
+            return parent.getProvider(targetKey);
+        });
+        return () -> target.get().get();
+    }
+
+    private static <T> Provider<T> memoized(Provider<T> provider) {
+        Supplier<T> supplier = SupplierUtil.memoized(provider::get);
+        return supplier::get;
+    }
+
+    @Override
+    public Injector getParent() {
+        return parent;
+    }
+
+    @Override
+    public Injector createChildInjector(Iterable<? extends Module> modules) {
+        return create(this, applicationContext, modules);
+    }
+
+    @Override
+    public Injector createChildInjector(Module... modules) {
+        return createChildInjector(List.of(modules));
+    }
+
+    @Override
+    public Map<Class<? extends Annotation>, Scope> getScopeBindings() {
+        return parent.getScopeBindings();
+    }
+
+    @Override
+    public Set<TypeConverterBinding> getTypeConverterBindings() {
+        return Set.of();
+    }
+
+    @Override
+    public List<Element> getElements() {
+        return List.of();
+    }
+
+    @Override
+    public Map<TypeLiteral<?>, List<InjectionPoint>> getAllMembersInjectorInjectionPoints() {
+        return Map.of();
+    }
+
+    /**
+     * Records the providers of the elements of the child modules.
+     */
+    private final class ElementRecorder extends DefaultElementVisitor<Void> {
+        private final List<Message> errors = new ArrayList<>();
+        private final List<Object> toInject = new ArrayList<>();
+        private final List<Provider<?>> eagerSingletons = new ArrayList<>();
+        private final List<Runnable> lookups = new ArrayList<>();
+        private final Map<Class<? extends Annotation>, Scope> scopes = new HashMap<>();
+
+        ElementRecorder() {
+            scopes.put(ThreadScoped.class, ThreadScope.INSTANCE);
+        }
+
+        @Override
+        public <T> Void visit(Binding<T> binding) {
+            Key<T> key = binding.getKey();
+            if (GuiceInternals.isElement(key)) {
+                errors.add(new Message(binding.getSource(), "Multibindings are not supported by child injectors"));
+                return null;
+            }
+            Provider<T> provider = binding.acceptTargetVisitor(new DefaultBindingTargetVisitor<T, Provider<T>>() {
+                @Override
+                public Provider<T> visit(InstanceBinding<? extends T> instanceBinding) {
+                    T instance = instanceBinding.getInstance();
+                    return () -> instance;
+                }
+
+                @Override
+                public Provider<T> visit(ProviderInstanceBinding<? extends T> providerInstanceBinding) {
+                    jakarta.inject.Provider<? extends T> userProvider = providerInstanceBinding.getUserSuppliedProvider();
+                    return userProvider::get;
+                }
+
+                @Override
+                public Provider<T> visit(ProviderKeyBinding<? extends T> providerKeyBinding) {
+                    Provider<? extends jakarta.inject.Provider<? extends T>> userProvider =
+                        linkedProvider(providerKeyBinding.getProviderKey(), binding.getSource(), false);
+                    return () -> userProvider.get().get();
+                }
+
+                @Override
+                public Provider<T> visit(LinkedKeyBinding<? extends T> linkedKeyBinding) {
+                    Provider<? extends T> target = linkedProvider(linkedKeyBinding.getLinkedKey(), binding.getSource(), false);
+                    return target::get;
+                }
+
+                @SuppressWarnings("unchecked")
+                @Override
+                public Provider<T> visit(ConstructorBinding<? extends T> constructorBinding) {
+                    InjectionPoint injectionPoint = constructorBinding.getConstructor();
+                    ConstructorProvider<T> constructorProvider = new ConstructorProvider<>(
+                        () -> ChildInjector.this,
+                        (Constructor<? extends T>) injectionPoint.getMember(),
+                        (TypeLiteral<? extends T>) injectionPoint.getDeclaringType()
+                    );
+                    return constructorProvider::get;
+                }
+
+                @Override
+                public Provider<T> visit(UntargettedBinding<? extends T> untargettedBinding) {
+                    return linkedProvider(key, binding.getSource(), true);
+                }
+
+                @Override
+                protected Provider<T> visitOther(Binding<? extends T> other) {
+                    errors.add(new Message(other.getSource(), "Binding is not supported by child injectors: " + other));
+                    return null;
+                }
+            });
+            if (provider == null) {
+                return null;
+            }
+            Object source = binding.getSource();
+            Binding<T> scoped = binding.acceptScopingVisitor(new DefaultBindingScopingVisitor<Binding<T>>() {
+                @Override
+                public Binding<T> visitEagerSingleton() {
+                    Provider<T> singleton = memoized(provider);
+                    eagerSingletons.add(singleton);
+                    return new MicronautBinding<>(key, source, singleton, null, Context.class);
+                }
+
+                @Override
+                public Binding<T> visitScope(Scope scope) {
+                    if (scope == Scopes.SINGLETON) {
+                        return new MicronautBinding<>(key, source, memoized(provider), scope, null);
+                    }
+                    if (scope == Scopes.NO_SCOPE) {
+                        return visitOther();
+                    }
+                    return new MicronautBinding<>(key, source, scope.scope(key, provider), scope, null);
+                }
+
+                @Override
+                public Binding<T> visitScopeAnnotation(Class<? extends Annotation> scopeAnnotation) {
+                    if (SINGLETON_CLASSES.contains(scopeAnnotation)) {
+                        return new MicronautBinding<>(key, source, memoized(provider), Scopes.SINGLETON, scopeAnnotation);
+                    }
+                    Scope scope = scopes.getOrDefault(scopeAnnotation, getScopeBindings().get(scopeAnnotation));
+                    if (scope == null) {
+                        errors.add(new Message(source, "No scope is bound to " + scopeAnnotation.getName()));
+                        return visitOther();
+                    }
+                    return new MicronautBinding<>(key, source, scope.scope(key, provider), scope, scopeAnnotation);
+                }
+
+                @Override
+                protected Binding<T> visitOther() {
+                    return new MicronautBinding<>(key, source, provider, null, null);
+                }
+            });
+            if (bindings.putIfAbsent(key, scoped) != null) {
+                errors.add(new Message(binding.getSource(), "A binding to " + key + " was already configured"));
+            }
+            return null;
+        }
+
+        @Override
+        public Void visit(ScopeBinding scopeBinding) {
+            // recorded before the bindings
+            return null;
+        }
+
+        @Override
+        public Void visit(InjectionRequest<?> request) {
+            toInject.add(request.getInstance());
+            return null;
+        }
+
+        @Override
+        public <T> Void visit(ProviderLookup<T> lookup) {
+            lookups.add(() -> lookup.initializeDelegate(getProvider(lookup.getKey())));
+            return null;
+        }
+
+        @Override
+        public <T> Void visit(MembersInjectorLookup<T> lookup) {
+            lookups.add(() -> lookup.initializeDelegate(getMembersInjector(lookup.getType())));
+            return null;
+        }
+
+        @Override
+        public Void visit(Message message) {
+            errors.add(message);
+            return null;
+        }
+
+        @Override
+        protected Void visitOther(Element element) {
+            errors.add(new Message(element.getSource(), "Element is not supported by child injectors: " + element));
+            return null;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guice;
+
+import com.google.inject.BindingAnnotation;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.Provider;
+import com.google.inject.TypeLiteral;
+import io.micronaut.context.exceptions.BeanInstantiationException;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.beans.BeanIntrospection;
+import io.micronaut.core.beans.BeanIntrospector;
+import io.micronaut.core.type.Argument;
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.ParameterizedType;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Supplies the instances of a {@code toConstructor(..)} binding. The constructor parameters are resolved from the
+ * injector as keys, with their binding annotations, and the instances are created through the introspection of the
+ * type if its constructor is the bound one, otherwise through a method handle.
+ *
+ * <p>Both are resolved on first provision, once per binding.</p>
+ *
+ * @param <T> The bound type
+ */
+@Internal
+final class ConstructorProvider<T> implements Supplier<T> {
+    private final Supplier<Injector> injector;
+    private final Constructor<? extends T> constructor;
+    private final TypeLiteral<? extends T> type;
+    // creating the factory only looks up the parameter providers, the introspection and the constructor, which creates
+    // no instance, so a factory created twice under contention is discarded without effect
+    private final Memoized<Factory<T>> factory = new Memoized<>(this::createFactory);
+
+    /**
+     * @param injector Supplies the injector that resolves the parameters
+     * @param constructor The constructor
+     * @param type The type that declares the constructor, which resolves generic parameter types
+     */
+    ConstructorProvider(Supplier<Injector> injector, Constructor<? extends T> constructor, TypeLiteral<? extends T> type) {
+        this.injector = injector;
+        this.constructor = constructor;
+        this.type = type;
+    }
+
+    @Override
+    public T get() {
+        return factory.get().create();
+    }
+
+    private Factory<T> createFactory() {
+        Injector parameterInjector = injector.get();
+        List<TypeLiteral<?>> parameterTypes = type.getParameterTypes(constructor);
+        Annotation[][] parameterAnnotations = constructor.getParameterAnnotations();
+        jakarta.inject.Provider<?>[] parameters = new jakarta.inject.Provider<?>[parameterTypes.size()];
+        for (int i = 0; i < parameters.length; i++) {
+            parameters[i] = parameterProvider(parameterInjector, parameterTypes.get(i), parameterAnnotations[i]);
+        }
+        return new Factory<>(parameters, instantiator());
+    }
+
+    private static jakarta.inject.Provider<?> parameterProvider(Injector injector, TypeLiteral<?> parameterType, Annotation[] annotations) {
+        Class<?> rawType = parameterType.getRawType();
+        if ((rawType == Provider.class || rawType == jakarta.inject.Provider.class)
+            && parameterType.getType() instanceof ParameterizedType parameterizedType) {
+            Provider<?> provider = injector.getProvider(key(TypeLiteral.get(parameterizedType.getActualTypeArguments()[0]), annotations));
+            return () -> provider;
+        }
+        return injector.getProvider(key(parameterType, annotations));
+    }
+
+    private static Key<?> key(TypeLiteral<?> parameterType, Annotation[] annotations) {
+        for (Annotation annotation : annotations) {
+            Class<? extends Annotation> annotationType = annotation.annotationType();
+            if (annotationType.isAnnotationPresent(BindingAnnotation.class) || annotationType.isAnnotationPresent(jakarta.inject.Qualifier.class)) {
+                return Key.get(parameterType, annotation);
+            }
+        }
+        return Key.get(parameterType);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Instantiator<T> instantiator() {
+        BeanIntrospection<? extends T> introspection = BeanIntrospector.SHARED.findIntrospection(constructor.getDeclaringClass()).orElse(null);
+        if (introspection != null && isConstructorOf(introspection)) {
+            return introspection::instantiate;
+        }
+        if (!constructor.trySetAccessible()) {
+            throw new BeanInstantiationException("Unable to access constructor: " + constructor);
+        }
+        try {
+            MethodHandle handle = MethodHandles.lookup().unreflectConstructor(constructor)
+                .asType(MethodType.methodType(Object.class, constructor.getParameterTypes()))
+                .asSpreader(Object[].class, constructor.getParameterCount());
+            return arguments -> {
+                try {
+                    return (T) (Object) handle.invokeExact(arguments);
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new BeanInstantiationException("Unable to instance bean via constructor: " + constructor, e);
+                }
+            };
+        } catch (IllegalAccessException e) {
+            throw new BeanInstantiationException("Unable to access constructor: " + constructor, e);
+        }
+    }
+
+    private boolean isConstructorOf(BeanIntrospection<?> introspection) {
+        Argument<?>[] arguments = introspection.getConstructorArguments();
+        Class<?>[] parameterTypes = constructor.getParameterTypes();
+        if (arguments.length != parameterTypes.length) {
+            return false;
+        }
+        for (int i = 0; i < arguments.length; i++) {
+            if (arguments[i].getType() != parameterTypes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Creates an instance from its constructor arguments.
+     *
+     * @param <T> The type
+     */
+    @FunctionalInterface
+    private interface Instantiator<T> {
+        T instantiate(Object... arguments);
+    }
+
+    /**
+     * The resolved parameters and instantiator of the constructor.
+     *
+     * @param parameters The providers of the parameters
+     * @param instantiator The instantiator
+     * @param <T> The type
+     */
+    private record Factory<T>(jakarta.inject.Provider<?>[] parameters, Instantiator<T> instantiator) {
+        T create() {
+            Object[] arguments = new Object[parameters.length];
+            for (int i = 0; i < arguments.length; i++) {
+                arguments[i] = parameters[i].get();
+            }
+            return instantiator.instantiate(arguments);
+        }
+    }
+}
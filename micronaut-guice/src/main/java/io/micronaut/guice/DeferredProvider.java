@@ -0,0 +1,66 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guice;
+
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.Provider;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.core.annotation.Internal;
+import java.util.function.BooleanSupplier;
+
+/**
+ * The provider returned by {@code Binder.getProvider} while modules are configured. Nothing is resolved until
+ * the first call to {@link #get()}, which fails until every binding is registered, as in Guice. The provider
+ * of the injector is then looked up once and used for all subsequent calls.
+ *
+ * @param <T> The provided type
+ */
+@Internal
+final class DeferredProvider<T> implements Provider<T> {
+    private final ApplicationContext applicationContext;
+    private final Key<T> key;
+    private final BooleanSupplier ready;
+    private final Memoized<Provider<T>> delegate = new Memoized<>(this::resolve);
+
+    /**
+     * @param applicationContext The application context
+     * @param key The key to provide
+     * @param ready Whether every binding is registered
+     */
+    DeferredProvider(ApplicationContext applicationContext, Key<T> key, BooleanSupplier ready) {
+        this.applicationContext = applicationContext;
+        this.key = key;
+        this.ready = ready;
+    }
+
+    @Override
+    public T get() {
+        return delegate.get().get();
+    }
+
+    private Provider<T> resolve() {
+        if (!ready.getAsBoolean()) {
+            throw new IllegalStateException("This Provider cannot be used until the Injector has been created.");
+        }
+        return applicationContext.getBean(Injector.class).getProvider(key);
+    }
+
+    @Override
+    public String toString() {
+        return "Provider<" + key + ">";
+    }
+}
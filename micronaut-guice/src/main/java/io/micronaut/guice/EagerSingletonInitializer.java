@@ -0,0 +1,258 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guice;
+
+import com.google.inject.Key;
+import com.google.inject.name.Names;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.BeanProvider;
+import io.micronaut.core.annotation.AnnotationMetadata;
+import io.micronaut.core.annotation.AnnotationUtil;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.type.Argument;
+import io.micronaut.inject.BeanDefinition;
+import io.micronaut.inject.FieldInjectionPoint;
+import io.micronaut.inject.MethodInjectionPoint;
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates the eager singletons of the modules configured at runtime concurrently. Each singleton is created once the
+ * eager singletons injected by the bean it is bound to are created, so independent singletons are created in parallel.
+ * Injection points of the constructor, fields and methods are followed through beans that are not eager singletons
+ * themselves. Providers are not followed since injecting them creates nothing, and neither are bindings to instances
+ * or providers since their dependencies are unknown.
+ *
+ * <p>The order only avoids waiting for singletons that are still being created. A dependency that is missed is
+ * created by whichever task needs it first, as the application context creates every singleton once.</p>
+ *
+ * <p>Singletons that depend on each other in a cycle are created last, one after the other.</p>
+ *
+ * <p>The singletons are created on threads of their own, bounded by the number of processors, which are released
+ * once every singleton is created.</p>
+ */
+@Internal
+final class EagerSingletonInitializer {
+
+    private EagerSingletonInitializer() {
+    }
+
+    /**
+     * Creates the given eager singletons and waits for them.
+     *
+     * @param applicationContext The application context
+     * @param singletons The eager singletons
+     */
+    static void initialize(ApplicationContext applicationContext, List<EagerSingleton> singletons) {
+        Map<Key<?>, Integer> index = new HashMap<>();
+        for (int i = 0; i < singletons.size(); i++) {
+            index.putIfAbsent(singletons.get(i).key(), i);
+        }
+        List<Set<Integer>> dependencies = new ArrayList<>(singletons.size());
+        for (int i = 0; i < singletons.size(); i++) {
+            Set<Integer> nodeDependencies = dependencies(applicationContext, singletons.get(i), index);
+            nodeDependencies.remove(i);
+            dependencies.add(nodeDependencies);
+        }
+
+        ExecutorService executor = newExecutor(singletons.size());
+        try {
+            createInOrder(applicationContext, singletons, dependencies, executor);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Creates an executor used for the eager singletons only, so that singletons whose construction uses the common
+     * fork-join pool neither starve it nor wait for tasks queued behind them.
+     *
+     * @param count The number of eager singletons
+     * @return The executor
+     */
+    private static ExecutorService newExecutor(int count) {
+        // at least two threads, so that independent singletons overlap on a single core too
+        int threads = Math.max(2, Math.min(count, Runtime.getRuntime().availableProcessors()));
+        AtomicInteger threadNumber = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "guice-eager-singletons-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static void createInOrder(ApplicationContext applicationContext,
+                                      List<EagerSingleton> singletons,
+                                      List<Set<Integer>> dependencies,
+                                      ExecutorService executor) {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[singletons.size()];
+        List<Integer> cyclic = new ArrayList<>();
+        boolean progress = true;
+        while (progress) {
+            progress = false;
+            for (int i = 0; i < singletons.size(); i++) {
+                if (futures[i] != null || !allCreated(futures, dependencies.get(i))) {
+                    continue;
+                }
+                CompletableFuture<?>[] dependencyFutures = dependencies.get(i).stream().map(j -> futures[j]).toArray(CompletableFuture<?>[]::new);
+                BeanDefinition<?> definition = singletons.get(i).definition();
+                futures[i] = CompletableFuture.allOf(dependencyFutures)
+                    .thenRunAsync(() -> applicationContext.getBean(definition), executor);
+                progress = true;
+            }
+        }
+        for (int i = 0; i < futures.length; i++) {
+            if (futures[i] == null) {
+                cyclic.add(i);
+            }
+        }
+        try {
+            CompletableFuture<?>[] scheduled = Arrays.stream(futures).filter(Objects::nonNull).toArray(CompletableFuture<?>[]::new);
+            CompletableFuture.allOf(scheduled).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+        for (int i : cyclic) {
+            applicationContext.getBean(singletons.get(i).definition());
+        }
+    }
+
+    private static boolean allCreated(CompletableFuture<?>[] futures, Set<Integer> dependencies) {
+        for (int dependency : dependencies) {
+            if (futures[dependency] == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param applicationContext The application context
+     * @param singleton The eager singleton
+     * @param index The indexes of the eager singletons by key
+     * @return The indexes of the eager singletons injected by the bean the singleton is bound to
+     */
+    private static Set<Integer> dependencies(ApplicationContext applicationContext, EagerSingleton singleton, Map<Key<?>, Integer> index) {
+        Set<Integer> dependencies = new LinkedHashSet<>();
+        Argument<?> target = singleton.target();
+        if (target == null) {
+            return dependencies;
+        }
+        // an untargetted binding registers a definition of the target type itself
+        List<? extends BeanDefinition<?>> definitions = applicationContext.getBeanDefinitions(target.getType()).stream()
+            .filter(definition -> definition != singleton.definition())
+            .toList();
+        if (definitions.size() == 1) {
+            collectDependencies(applicationContext, definitions.get(0), index, dependencies, new HashSet<>());
+        }
+        return dependencies;
+    }
+
+    private static void collectDependencies(ApplicationContext applicationContext,
+                                            BeanDefinition<?> definition,
+                                            Map<Key<?>, Integer> index,
+                                            Set<Integer> dependencies,
+                                            Set<BeanDefinition<?>> visited) {
+        if (!visited.add(definition)) {
+            return;
+        }
+        List<Argument<?>> arguments = new ArrayList<>(List.of(definition.getConstructor().getArguments()));
+        for (FieldInjectionPoint<?, ?> field : definition.getInjectedFields()) {
+            arguments.add(field.asArgument());
+        }
+        for (MethodInjectionPoint<?, ?> method : definition.getInjectedMethods()) {
+            arguments.addAll(List.of(method.getArguments()));
+        }
+        for (Argument<?> argument : arguments) {
+            Class<?> type = argument.getType();
+            if (jakarta.inject.Provider.class.isAssignableFrom(type) || BeanProvider.class.isAssignableFrom(type)) {
+                continue;
+            }
+            Key<?> key = keyOf(argument);
+            if (key == null) {
+                continue;
+            }
+            Integer dependency = index.get(key);
+            if (dependency != null) {
+                dependencies.add(dependency);
+                continue;
+            }
+            BeanDefinition<?> bean = findDefinition(applicationContext, key);
+            if (bean != null) {
+                collectDependencies(applicationContext, bean, index, dependencies, visited);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> @Nullable BeanDefinition<T> findDefinition(ApplicationContext applicationContext, Key<T> key) {
+        try {
+            return applicationContext.findBeanDefinition(
+                (Argument<T>) Argument.of(key.getTypeLiteral().getType()),
+                MicronautInjector.toQualifier(key)
+            ).orElse(null);
+        } catch (RuntimeException e) {
+            // several candidates, resolved once the bean is created
+            return null;
+        }
+    }
+
+    private static @Nullable Key<?> keyOf(Argument<?> argument) {
+        AnnotationMetadata annotationMetadata = argument.getAnnotationMetadata();
+        try {
+            String name = annotationMetadata.stringValue(AnnotationUtil.NAMED).orElse(null);
+            if (name != null) {
+                return Key.get(argument.asType(), Names.named(name));
+            }
+            Class<? extends Annotation> qualifier = annotationMetadata.getAnnotationTypeByStereotype(AnnotationUtil.QUALIFIER).orElse(null);
+            if (qualifier == null) {
+                return Key.get(argument.asType());
+            }
+            Annotation annotation = annotationMetadata.synthesize(qualifier);
+            return annotation != null ? Key.get(argument.asType(), annotation) : Key.get(argument.asType(), qualifier);
+        } catch (RuntimeException e) {
+            // a type that cannot be a key, such as a type variable
+            return null;
+        }
+    }
+
+    /**
+     * An eager singleton binding.
+     *
+     * @param key The key of the binding
+     * @param definition The definition registered for the binding
+     * @param target The type of the bean the binding is linked to, if any
+     */
+    record EagerSingleton(Key<?> key, BeanDefinition<?> definition, @Nullable Argument<?> target) {
+    }
+}
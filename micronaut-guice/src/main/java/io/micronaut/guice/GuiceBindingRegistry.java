@@ -0,0 +1,128 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guice;
+
+import com.google.inject.Binding;
+import com.google.inject.Key;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.RuntimeBeanDefinition;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.inject.BeanDefinition;
+import jakarta.inject.Singleton;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Registers the bean definitions produced by Guice bindings and tracks a generation that is incremented
+ * on every registration, allowing lookups cached by the {@link MicronautInjector} to be invalidated.
+ *
+ * <p>Definitions of bindings with a binding annotation or name are additionally indexed by their Guice {@link Key}
+ * so that qualified lookups do not need to filter every candidate of the bean type.</p>
+ *
+ * <p>The {@link Binding}s of the modules configured at runtime are kept in an immutable map once all of them are registered.</p>
+ */
+@Singleton
+@Internal
+final class GuiceBindingRegistry {
+    private final ApplicationContext applicationContext;
+    private final AtomicInteger generation = new AtomicInteger();
+    private final Map<Key<?>, BeanDefinition<?>> qualifiedBindings = new ConcurrentHashMap<>();
+    private final Set<Key<?>> ambiguousKeys = ConcurrentHashMap.newKeySet();
+    private volatile Map<Key<?>, Binding<?>> bindings = Map.of();
+
+    GuiceBindingRegistry(ApplicationContext applicationContext) {
+        this.applicationContext = applicationContext;
+    }
+
+    /**
+     * Registers a bean definition with the application context.
+     *
+     * @param definition The definition
+     */
+    void register(RuntimeBeanDefinition<?> definition) {
+        applicationContext.registerBeanDefinition(definition);
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Registers a bean definition with the application context and indexes it by key if the key is qualified.
+     *
+     * @param key The key of the binding
+     * @param definition The definition
+     */
+    void register(Key<?> key, RuntimeBeanDefinition<?> definition) {
+        if (key.getAnnotationType() != null && !ambiguousKeys.contains(key)
+            && qualifiedBindings.putIfAbsent(key, definition) != null) {
+            // leave duplicate bindings to the application context which reports them
+            qualifiedBindings.remove(key);
+            ambiguousKeys.add(key);
+        }
+        register(definition);
+    }
+
+    /**
+     * Finds the definition of a qualified binding.
+     *
+     * @param key The key
+     * @return The definition or {@code null} if the key is not qualified or not bound by a Guice module
+     * @param <T> The bean type
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    <T> BeanDefinition<T> findQualifiedBinding(Key<T> key) {
+        if (key.getAnnotationType() == null) {
+            return null;
+        }
+        return (BeanDefinition<T>) qualifiedBindings.get(key);
+    }
+
+    /**
+     * @param bindings The bindings of the modules configured at runtime
+     */
+    void setBindings(Map<Key<?>, Binding<?>> bindings) {
+        this.bindings = Map.copyOf(bindings);
+    }
+
+    /**
+     * @return The immutable bindings of the modules configured at runtime
+     */
+    Map<Key<?>, Binding<?>> getBindings() {
+        return bindings;
+    }
+
+    /**
+     * Finds a binding of a module configured at runtime.
+     *
+     * @param key The key
+     * @return The binding or {@code null}
+     * @param <T> The bound type
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    <T> Binding<T> findBinding(Key<T> key) {
+        return (Binding<T>) bindings.get(key);
+    }
+
+    /**
+     * @return The current generation, which changes whenever a bean definition is registered.
+     */
+    int generation() {
+        return generation.get();
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guice;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+
+/**
+ * Configuration for the Guice integration.
+ */
+@ConfigurationProperties(GuiceConfiguration.PREFIX)
+public class GuiceConfiguration {
+    /**
+     * The prefix of the configuration.
+     */
+    public static final String PREFIX = "guice";
+
+    /**
+     * The default value of {@link #isLazyMultibindings()}.
+     */
+    public static final boolean DEFAULT_LAZY_MULTIBINDINGS = false;
+
+    /**
+     * The default value of {@link #isParallelConfiguration()}.
+     */
+    public static final boolean DEFAULT_PARALLEL_CONFIGURATION = false;
+
+    /**
+     * The default value of {@link #isParallelEagerSingletons()}.
+     */
+    public static final boolean DEFAULT_PARALLEL_EAGER_SINGLETONS = false;
+
+    /**
+     * The default value of {@link #isParallelInjection()}.
+     */
+    public static final boolean DEFAULT_PARALLEL_INJECTION = false;
+
+    /**
+     * The default value of {@link #isStartupReport()}.
+     */
+    public static final boolean DEFAULT_STARTUP_REPORT = false;
+
+    private boolean lazyMultibindings = DEFAULT_LAZY_MULTIBINDINGS;
+    private boolean parallelConfiguration = DEFAULT_PARALLEL_CONFIGURATION;
+    private boolean parallelEagerSingletons = DEFAULT_PARALLEL_EAGER_SINGLETONS;
+    private boolean parallelInjection = DEFAULT_PARALLEL_INJECTION;
+    private boolean startupReport = DEFAULT_STARTUP_REPORT;
+
+    /**
+     * @return Whether the {@code Set<T>} of a {@code Multibinder} creates its elements on first access instead of when it is injected.
+     */
+    public boolean isLazyMultibindings() {
+        return lazyMultibindings;
+    }
+
+    /**
+     * Whether the {@code Set<T>} of a {@code Multibinder} creates its elements on first access instead of when it is injected.
+     * Default value ({@value #DEFAULT_LAZY_MULTIBINDINGS}).
+     *
+     * @param lazyMultibindings Whether multibindings are lazy
+     */
+    public void setLazyMultibindings(boolean lazyMultibindings) {
+        this.lazyMultibindings = lazyMultibindings;
+    }
+
+    /**
+     * @return Whether the modules are configured concurrently.
+     */
+    public boolean isParallelConfiguration() {
+        return parallelConfiguration;
+    }
+
+    /**
+     * Whether the modules are configured concurrently on the common fork-join pool. The bindings of every module are
+     * recorded separately and merged in the order of the modules, hence the result does not depend on the scheduling.
+     * Only enable this if the {@code configure()} methods of the modules do not depend on each other.
+     * Default value ({@value #DEFAULT_PARALLEL_CONFIGURATION}).
+     *
+     * @param parallelConfiguration Whether modules are configured concurrently
+     */
+    public void setParallelConfiguration(boolean parallelConfiguration) {
+        this.parallelConfiguration = parallelConfiguration;
+    }
+
+    /**
+     * @return Whether eager singletons are created concurrently in the order of their dependencies.
+     */
+    public boolean isParallelEagerSingletons() {
+        return parallelEagerSingletons;
+    }
+
+    /**
+     * Whether the eager singletons of the modules configured at runtime are created concurrently on the common fork-join
+     * pool once the modules are configured, each after the eager singletons it injects. In the {@code PRODUCTION} stage
+     * every singleton binding is then created eagerly, as Guice does. Default value ({@value #DEFAULT_PARALLEL_EAGER_SINGLETONS}).
+     *
+     * @param parallelEagerSingletons Whether eager singletons are created concurrently
+     */
+    public void setParallelEagerSingletons(boolean parallelEagerSingletons) {
+        this.parallelEagerSingletons = parallelEagerSingletons;
+    }
+
+    /**
+     * @return Whether the members of the instances passed to {@code requestInjection} are injected concurrently.
+     */
+    public boolean isParallelInjection() {
+        return parallelInjection;
+    }
+
+    /**
+     * Whether the members of the instances that modules pass to {@code requestInjection} are injected concurrently on
+     * the common fork-join pool at startup, one task per type. Default value ({@value #DEFAULT_PARALLEL_INJECTION}).
+     *
+     * @param parallelInjection Whether requested injections run concurrently
+     */
+    public void setParallelInjection(boolean parallelInjection) {
+        this.parallelInjection = parallelInjection;
+    }
+
+    /**
+     * @return Whether the time and memory spent configuring modules and registering bindings is measured.
+     */
+    public boolean isStartupReport() {
+        return startupReport;
+    }
+
+    /**
+     * Whether the time and memory spent configuring modules and registering bindings is measured and made available as a
+     * {@link GuiceStartupReport} bean, which is also logged at DEBUG level. Default value ({@value #DEFAULT_STARTUP_REPORT}).
+     *
+     * @param startupReport Whether to measure the startup
+     */
+    public void setStartupReport(boolean startupReport) {
+        this.startupReport = startupReport;
+    }
+}
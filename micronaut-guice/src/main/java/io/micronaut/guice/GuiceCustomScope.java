@@ -0,0 +1,128 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guice;
+
+import com.google.inject.BindingAnnotation;
+import com.google.inject.Key;
+import com.google.inject.Provider;
+import com.google.inject.Scope;
+import com.google.inject.name.Names;
+import io.micronaut.context.scope.BeanCreationContext;
+import io.micronaut.context.scope.CustomScope;
+import io.micronaut.context.annotation.Primary;
+import io.micronaut.core.annotation.AnnotationMetadata;
+import io.micronaut.core.annotation.AnnotationUtil;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.inject.BeanDefinition;
+import io.micronaut.inject.BeanIdentifier;
+import java.lang.annotation.Annotation;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bridges a Guice {@link Scope} bound with {@code bindScope} onto a Micronaut {@link CustomScope}.
+ *
+ * <p>The scoped providers are created once per bean and kept in a concurrent map, so threads entering and leaving the
+ * scope only contend on the instance store of the Guice scope itself.</p>
+ *
+ * @param <A> The scope annotation
+ */
+@Internal
+final class GuiceCustomScope<A extends Annotation> implements CustomScope<A> {
+    private static final ThreadLocal<BeanCreationContext<?>> CREATION_CONTEXT = new ThreadLocal<>();
+
+    private final Class<A> annotationType;
+    private final Scope scope;
+    private final Map<BeanIdentifier, Provider<?>> scopedProviders = new ConcurrentHashMap<>();
+
+    GuiceCustomScope(Class<A> annotationType, Scope scope) {
+        this.annotationType = annotationType;
+        this.scope = scope;
+    }
+
+    @Override
+    public Class<A> annotationType() {
+        return annotationType;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T getOrCreate(BeanCreationContext<T> creationContext) {
+        Provider<T> provider = (Provider<T>) scopedProviders.computeIfAbsent(
+            creationContext.id(),
+            id -> scope.scope(toKey(creationContext.definition()), GuiceCustomScope::createBean)
+        );
+        BeanCreationContext<?> previous = CREATION_CONTEXT.get();
+        CREATION_CONTEXT.set(creationContext);
+        try {
+            return provider.get();
+        } finally {
+            if (previous != null) {
+                CREATION_CONTEXT.set(previous);
+            } else {
+                CREATION_CONTEXT.remove();
+            }
+        }
+    }
+
+    @Override
+    public <T> Optional<T> remove(BeanIdentifier identifier) {
+        // Guice scopes do not support removing instances
+        return Optional.empty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T createBean() {
+        BeanCreationContext<T> creationContext = (BeanCreationContext<T>) CREATION_CONTEXT.get();
+        if (creationContext == null) {
+            throw new IllegalStateException("Scoped bean requested outside of the scope");
+        }
+        return creationContext.create().bean();
+    }
+
+    /**
+     * @param definition The bean definition
+     * @return The key of the bean, including its qualifier so that beans of the same type are stored separately
+     * @param <T> The bean type
+     */
+    private static <T> Key<T> toKey(BeanDefinition<T> definition) {
+        AnnotationMetadata annotationMetadata = definition.getAnnotationMetadata();
+        Class<T> beanType = definition.getBeanType();
+        Optional<String> name = annotationMetadata.stringValue(AnnotationUtil.NAMED);
+        if (name.isPresent()) {
+            return Key.get(beanType, Names.named(name.get()));
+        }
+        for (String annotationName : annotationMetadata.getAnnotationNames()) {
+            Class<? extends Annotation> annotationType = annotationMetadata.getAnnotationType(annotationName).orElse(null);
+            if (annotationType != null && isQualifier(annotationType, annotationMetadata)) {
+                Annotation annotation = annotationMetadata.synthesize(annotationType);
+                return annotation != null ? Key.get(beanType, annotation) : Key.get(beanType, annotationType);
+            }
+        }
+        return Key.get(beanType);
+    }
+
+    private static boolean isQualifier(Class<? extends Annotation> annotationType, AnnotationMetadata annotationMetadata) {
+        if (annotationType == Primary.class) {
+            // the default candidate, not part of the key
+            return false;
+        }
+        return annotationType.isAnnotationPresent(BindingAnnotation.class)
+            || annotationType.isAnnotationPresent(jakarta.inject.Qualifier.class)
+            || annotationMetadata.getAnnotationNamesByStereotype(AnnotationUtil.QUALIFIER).contains(annotationType.getName());
+    }
+}
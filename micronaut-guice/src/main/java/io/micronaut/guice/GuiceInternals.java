@@ -0,0 +1,155 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guice;
+
+import com.google.inject.Key;
+import com.google.inject.Module;
+import com.google.inject.internal.Annotations;
+import com.google.inject.matcher.Matcher;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Access to the Guice internals used by {@code Multibinder} and {@code MapBinder}, which record their
+ * contributions through package-private types, and by the annotation matchers of interceptor bindings.
+ */
+@Internal
+final class GuiceInternals {
+    private static final String INTERNAL_PACKAGE = "com.google.inject.internal";
+    private static final String ELEMENT_ANNOTATION = INTERNAL_PACKAGE + ".Element";
+    private static final String MAP_ENTRY_PROVIDER = INTERNAL_PACKAGE + ".RealMapBinder$ProviderMapEntry";
+    private static final String MAP_BINDER_ELEMENT = "MAPBINDER";
+    private static final String ANNOTATED_WITH_TYPE_MATCHER = "com.google.inject.matcher.Matchers$AnnotatedWithType";
+    private static final String ANNOTATED_WITH_MATCHER = "com.google.inject.matcher.Matchers$AnnotatedWith";
+
+    private GuiceInternals() {
+    }
+
+    /**
+     * @param module The module
+     * @return Whether the module is one of Guice's own modules, such as the one installed by {@code MapBinder}.
+     */
+    static boolean isInternal(@NonNull Module module) {
+        return module.getClass().getPackageName().equals(INTERNAL_PACKAGE);
+    }
+
+    /**
+     * @param key The key
+     * @return Whether the key is the key of an element contributed to a multibinding
+     */
+    static boolean isElement(@NonNull Key<?> key) {
+        Class<? extends Annotation> annotationType = key.getAnnotationType();
+        return annotationType != null && annotationType.getName().equals(ELEMENT_ANNOTATION);
+    }
+
+    /**
+     * @param key The key
+     * @return Whether the key is the key of a value contributed to a {@code MapBinder}
+     */
+    static boolean isMapBinderValue(@NonNull Key<?> key) {
+        return isElement(key) && MAP_BINDER_ELEMENT.equals(String.valueOf(invoke(key.getAnnotation(), "type")));
+    }
+
+    /**
+     * @param key The key of a multibinding element
+     * @return The name of the set the element is contributed to, which identifies the annotation of the multibinding
+     */
+    static String setName(@NonNull Key<?> key) {
+        return (String) invoke(key.getAnnotation(), "setName");
+    }
+
+    /**
+     * @param key The key
+     * @return The name that Guice uses for the annotation of the key
+     */
+    static String nameOf(@NonNull Key<?> key) {
+        return Annotations.nameOf(key);
+    }
+
+    /**
+     * @param provider The provider
+     * @return Whether the provider is the provider of an entry contributed to a {@code MapBinder}
+     */
+    static boolean isMapEntryProvider(@NonNull Object provider) {
+        return provider.getClass().getName().equals(MAP_ENTRY_PROVIDER);
+    }
+
+    /**
+     * @param provider The provider of a {@code MapBinder} entry
+     * @return The map key of the entry
+     */
+    static Object mapEntryKey(@NonNull Object provider) {
+        return invoke(provider, "getKey");
+    }
+
+    /**
+     * @param provider The provider of a {@code MapBinder} entry
+     * @return The key the value of the entry is bound to
+     */
+    static Key<?> mapEntryValueKey(@NonNull Object provider) {
+        return (Key<?>) invoke(provider, "getValueKey");
+    }
+
+    /**
+     * @param matcher The matcher
+     * @return Whether the matcher is {@code Matchers.annotatedWith(Class)}
+     */
+    static boolean isAnnotatedWithType(@NonNull Matcher<?> matcher) {
+        return matcher.getClass().getName().equals(ANNOTATED_WITH_TYPE_MATCHER);
+    }
+
+    /**
+     * @param matcher The matcher
+     * @return The annotation type matched by {@code Matchers.annotatedWith(..)}, otherwise {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    static @Nullable Class<? extends Annotation> annotationTypeOf(@NonNull Matcher<?> matcher) {
+        String type = matcher.getClass().getName();
+        if (type.equals(ANNOTATED_WITH_TYPE_MATCHER)) {
+            return (Class<? extends Annotation>) field(matcher, "annotationType");
+        }
+        if (type.equals(ANNOTATED_WITH_MATCHER)) {
+            return ((Annotation) field(matcher, "annotation")).annotationType();
+        }
+        return null;
+    }
+
+    private static Object field(Object target, String fieldName) {
+        try {
+            Field field = target.getClass().getDeclaredField(fieldName);
+            field.setAccessible(true);
+            return field.get(target);
+        } catch (NoSuchFieldException | IllegalAccessException | RuntimeException e) {
+            throw new UnsupportedOperationException("Interceptor bindings are not supported by this version of Guice: " + e.getMessage(), e);
+        }
+    }
+
+    private static Object invoke(Object target, String methodName) {
+        Class<?> type = target instanceof Annotation annotation ? annotation.annotationType() : target.getClass();
+        try {
+            Method method = type.getDeclaredMethod(methodName);
+            method.setAccessible(true);
+            return method.invoke(target);
+        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException | RuntimeException e) {
+            throw new UnsupportedOperationException("Multibindings are not supported by this version of Guice: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guice;
+
+import com.google.inject.matcher.Matcher;
+import io.micronaut.aop.MethodInterceptor;
+import io.micronaut.aop.MethodInvocationContext;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.inject.ExecutableMethod;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A Micronaut around interceptor that invokes the aopalliance interceptors registered with
+ * {@link com.google.inject.Binder#bindInterceptor(Matcher, Matcher, org.aopalliance.intercept.MethodInterceptor...)}.
+ *
+ * <p>The interceptor is bound to the annotation of the {@code Matchers.annotatedWith(..)} matcher, hence the matchers
+ * only need to be evaluated if they match more than the presence of the annotation, in which case they are evaluated
+ * once per method.</p>
+ */
+@Internal
+final class GuiceMethodInterceptor implements MethodInterceptor<Object, Object> {
+    private final Matcher<? super Class<?>> classMatcher;
+    private final Matcher<? super Method> methodMatcher;
+    private final org.aopalliance.intercept.MethodInterceptor[] interceptors;
+    private final Map<ExecutableMethod<?, ?>, Boolean> matches;
+
+    /**
+     * @param classMatcher The class matcher, or {@code null} if all classes annotated with the binding annotation match
+     * @param methodMatcher The method matcher, or {@code null} if all methods annotated with the binding annotation match
+     * @param interceptors The interceptors
+     */
+    GuiceMethodInterceptor(@Nullable Matcher<? super Class<?>> classMatcher,
+                           @Nullable Matcher<? super Method> methodMatcher,
+                           org.aopalliance.intercept.MethodInterceptor[] interceptors) {
+        this.classMatcher = classMatcher;
+        this.methodMatcher = methodMatcher;
+        this.interceptors = interceptors;
+        this.matches = classMatcher != null || methodMatcher != null ? new ConcurrentHashMap<>() : null;
+    }
+
+    @Override
+    public Object intercept(MethodInvocationContext<Object, Object> context) {
+        if (matches != null && !matches.computeIfAbsent(context.getExecutableMethod(), m -> matches(context))) {
+            return context.proceed();
+        }
+        try {
+            return new AopAllianceMethodInvocation(context, interceptors).proceed();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            // checked exceptions declared by the intercepted method
+            throw GuiceMethodInterceptor.<RuntimeException>sneakyThrow(e);
+        }
+    }
+
+    private boolean matches(MethodInvocationContext<Object, Object> context) {
+        return (classMatcher == null || classMatcher.matches(context.getDeclaringType()))
+            && (methodMatcher == null || methodMatcher.matches(context.getExecutableMethod().getTargetMethod()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Throwable> E sneakyThrow(Throwable e) throws E {
+        throw (E) e;
+    }
+}
@@ -20,6 +20,7 @@ import com.google.inject.Binding;
 import com.google.inject.BindingAnnotation;
 import com.google.inject.CreationException;
 import com.google.inject.ImplementedBy;
+import com.google.inject.Injector;
 import com.google.inject.Key;
 import com.google.inject.MembersInjector;
 import com.google.inject.Module;
@@ -37,30 +38,42 @@ import com.google.inject.binder.ConstantBindingBuilder;
 import com.google.inject.binder.LinkedBindingBuilder;
 import com.google.inject.binder.ScopedBindingBuilder;
 import com.google.inject.matcher.Matcher;
+import com.google.inject.matcher.Matchers;
 import com.google.inject.name.Named;
+import com.google.inject.name.Names;
 import com.google.inject.spi.Dependency;
 import com.google.inject.spi.Message;
 import com.google.inject.spi.ModuleAnnotatedMethodScanner;
 import com.google.inject.spi.ProvisionListener;
 import com.google.inject.spi.TypeConverter;
 import com.google.inject.spi.TypeListener;
+import com.google.inject.util.Types;
+import io.micronaut.aop.Interceptor;
+import io.micronaut.aop.InterceptorBinding;
+import io.micronaut.aop.InterceptorBindingDefinitions;
+import io.micronaut.aop.InterceptorKind;
 import io.micronaut.context.ApplicationContext;
-import io.micronaut.context.BeanProvider;
 import io.micronaut.context.RuntimeBeanDefinition;
 import io.micronaut.context.annotation.Context;
 import io.micronaut.context.env.Environment;
 import io.micronaut.context.event.StartupEvent;
-import io.micronaut.context.exceptions.BeanInstantiationException;
 import io.micronaut.context.exceptions.ConfigurationException;
 import io.micronaut.context.exceptions.NoSuchBeanException;
+import io.micronaut.context.scope.CustomScope;
+import io.micronaut.core.annotation.AnnotationClassValue;
+import io.micronaut.core.annotation.AnnotationMetadata;
+import io.micronaut.core.annotation.AnnotationValue;
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.annotation.Order;
-import io.micronaut.core.beans.BeanIntrospection;
-import io.micronaut.core.beans.BeanIntrospector;
 import io.micronaut.core.order.Ordered;
-import io.micronaut.core.reflect.InstantiationUtils;
 import io.micronaut.core.type.Argument;
+import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.core.util.StringUtils;
+import io.micronaut.core.util.SupplierUtil;
+import io.micronaut.guice.annotation.ThreadScoped;
+import io.micronaut.guice.annotation.internal.GuiceKeyTable;
+import io.micronaut.guice.annotation.internal.GuiceModule;
 import io.micronaut.inject.BeanDefinition;
 import io.micronaut.inject.annotation.MutableAnnotationMetadata;
 import io.micronaut.inject.qualifiers.PrimaryQualifier;
@@ -70,11 +83,22 @@ import jakarta.inject.Qualifier;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.Supplier;
 import org.aopalliance.intercept.MethodInterceptor;
 import org.slf4j.Logger;
@@ -86,102 +110,521 @@ import org.slf4j.LoggerFactory;
 class GuiceModuleBinder implements Binder {
     private static final Logger LOG = LoggerFactory.getLogger(GuiceModuleBinder.class);
     private final ApplicationContext applicationContext;
-    private final List<LinkedBindingBuilderImpl<?>> linkedBindingBuilders = new ArrayList<>();
-    private final List<AnnotatedConstantBindingBuilderImpl> constantBuilders = new ArrayList<>();
-    private final List<Message> errors = new ArrayList<>();
-    private final List<Object> toInject = new ArrayList<>();
-    private Object currentSource;
-
-    GuiceModuleBinder(
-        ApplicationContext applicationContext,
-        List<Module> modules) {
+    private final GuiceBindingRegistry bindingRegistry;
+    private final GuiceConfiguration configuration;
+    @Nullable
+    private final GuiceStartupRecorder recorder;
+    private final Recording recording = new Recording();
+    private ThreadLocal<Recording> moduleRecordings;
+    private volatile boolean bindingsRegistered;
+
+    GuiceModuleBinder(ApplicationContext applicationContext, GuiceBindingRegistry bindingRegistry, GuiceConfiguration configuration) {
         this.applicationContext = applicationContext;
-        for (Module module : modules) {
+        this.bindingRegistry = bindingRegistry;
+        this.configuration = configuration;
+        this.recorder = configuration.isStartupReport() ? new GuiceStartupRecorder() : null;
+        recording.scopes.put(ThreadScoped.class, ThreadScope.INSTANCE);
+        configure(runtimeModules(applicationContext));
+        try {
+            failOnErrors(recording.errors);
+            registerBindings();
+            // targets may be bound by other modules, so they are only checked once every binding is registered
+            failOnErrors(validateTargets());
+            bindingsRegistered = true;
+            if (!recording.eagerSingletons.isEmpty()) {
+                EagerSingletonInitializer.initialize(applicationContext, recording.eagerSingletons);
+            }
+            if (recorder != null) {
+                GuiceStartupReport report = recorder.toReport();
+                applicationContext.registerSingleton(GuiceStartupReport.class, report);
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("{}", report);
+                }
+            }
+        } finally {
+            recording.clearBindings();
+        }
+    }
+
+    /**
+     * Configures the modules, concurrently if parallel configuration is enabled. Every module then records its
+     * bindings separately and the recordings are merged in the order of the modules.
+     *
+     * @param modules The modules
+     */
+    private void configure(List<Module> modules) {
+        if (!configuration.isParallelConfiguration() || modules.size() < 2) {
+            for (Module module : modules) {
+                withSource(module);
+                configureModule(module);
+            }
+            return;
+        }
+        moduleRecordings = new ThreadLocal<>();
+        try {
+            List<ForkJoinTask<Recording>> tasks = new ArrayList<>(modules.size());
+            for (Module module : modules) {
+                tasks.add(ForkJoinPool.commonPool().submit(() -> configureInIsolation(module)));
+            }
+            RuntimeException failure = null;
+            for (ForkJoinTask<Recording> task : tasks) {
+                try {
+                    recording.merge(task.join());
+                } catch (RuntimeException e) {
+                    // wait for the remaining modules before failing
+                    if (failure == null) {
+                        failure = e;
+                    }
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        } finally {
+            moduleRecordings = null;
+        }
+    }
+
+    private Recording configureInIsolation(Module module) {
+        Recording moduleRecording = new Recording();
+        moduleRecordings.set(moduleRecording);
+        try {
             withSource(module);
+            configureModule(module);
+        } finally {
+            moduleRecordings.remove();
+        }
+        return moduleRecording;
+    }
+
+    /**
+     * Configures a module, measuring it if the startup report is enabled.
+     *
+     * @param module The module
+     */
+    private void configureModule(Module module) {
+        if (recorder == null) {
             module.configure(this);
+            return;
         }
+        Recording recording = recording();
+        Module parent = recording.currentModule;
+        recording.currentModule = module;
+        long startNanos = recorder.nanoTime();
+        long startBytes = recorder.allocatedBytes();
         try {
-            if (!this.errors.isEmpty()) {
-                for (Message error : errors) {
-                    Throwable cause = error.getCause();
-                    if (cause != null) {
-                        LOG.error("Guice Module Error: " + error.getMessage(), cause);
-                    } else {
-                        LOG.error("Guice Module Error: {}", error.getMessage());
-                    }
+            module.configure(this);
+        } finally {
+            recording.currentModule = parent;
+            recorder.recordModule(module.getClass().getName(), parent != null ? parent.getClass().getName() : null, startNanos, startBytes);
+        }
+    }
+
+    /**
+     * @return The recording of the module configured by the current thread when configuring in parallel, otherwise the shared recording
+     */
+    private Recording recording() {
+        ThreadLocal<Recording> recordings = moduleRecordings;
+        if (recordings != null) {
+            Recording moduleRecording = recordings.get();
+            if (moduleRecording != null) {
+                return moduleRecording;
+            }
+        }
+        return recording;
+    }
+
+    private static void failOnErrors(List<Message> errors) {
+        if (!errors.isEmpty()) {
+            for (Message error : errors) {
+                Throwable cause = error.getCause();
+                if (cause != null) {
+                    LOG.error("Guice Module Error: " + error.getMessage(), cause);
+                } else {
+                    LOG.error("Guice Module Error: {}", error.getMessage());
                 }
-                throw new ConfigurationException("Failed to import modules due to prior errors");
             }
-            for (LinkedBindingBuilderImpl<?> builder : linkedBindingBuilders) {
-                RuntimeBeanDefinition<?> beanDefinition = builder.build();
-                if (beanDefinition != null) {
-                    applicationContext.registerBeanDefinition(beanDefinition);
+            throw new ConfigurationException("Failed to import modules due to prior errors");
+        }
+    }
+
+    /**
+     * @return The errors of the binding targets that are neither beans nor introspected, except for the targets that
+     * the annotation processor validated
+     */
+    private List<Message> validateTargets() {
+        List<Message> errors = new ArrayList<>();
+        if (recording.lazyTargets.isEmpty()) {
+            return errors;
+        }
+        Set<Key<?>> validatedKeys = new HashSet<>();
+        for (GuiceKeyTable keyTable : applicationContext.getBeansOfType(GuiceKeyTable.class)) {
+            if (keyTable.isValidated()) {
+                validatedKeys.addAll(keyTable.keys());
+            }
+        }
+        for (LazyBeanProvider<?> target : recording.lazyTargets) {
+            if (validatedKeys.contains(Key.get(target.getArgument().asType()))) {
+                continue;
+            }
+            Message error = target.validate();
+            if (error != null) {
+                errors.add(error);
+            }
+        }
+        return errors;
+    }
+
+    private void registerBindings() {
+        recording.scopes.forEach(this::registerScope);
+        recording.interceptorBindings.forEach(this::registerInterceptor);
+        Map<List<Object>, Multibinding> multibindings = new LinkedHashMap<>();
+        for (LinkedBindingBuilderImpl<?> builder : recording.linkedBindingBuilders) {
+            if (builder.mapEntry) {
+                continue;
+            }
+            long startNanos = recorder != null ? recorder.nanoTime() : 0;
+            long startBytes = recorder != null ? recorder.allocatedBytes() : 0;
+            RuntimeBeanDefinition<?> beanDefinition = builder.build();
+            if (beanDefinition != null) {
+                Key<?> key = builder.key();
+                bindingRegistry.register(key, beanDefinition);
+                if (builder.isParallelEager()) {
+                    recording.eagerSingletons.add(new EagerSingletonInitializer.EagerSingleton(key, beanDefinition, builder.target));
+                }
+                if (builder.elementSetName == null) {
+                    // elements are exposed through the multibinding
+                    recording.bindings.putIfAbsent(key, builder.binding());
+                }
+                if (recorder != null) {
+                    recorder.recordBinding(key.toString(), startNanos, startBytes);
+                }
+                if (builder.elementSetName != null) {
+                    Multibinding multibinding = multibindings.computeIfAbsent(
+                        List.of(builder.typeLiteral, builder.elementSetName),
+                        k -> new Multibinding(builder.typeLiteral, builder.elementSetName)
+                    );
+                    multibinding.elements.add(beanDefinition);
                 }
             }
+        }
 
-            for (AnnotatedConstantBindingBuilderImpl constantBuilder : constantBuilders) {
-                RuntimeBeanDefinition<?> beanDefinition = constantBuilder.build();
-                applicationContext.registerBeanDefinition(beanDefinition);
+        for (AnnotatedConstantBindingBuilderImpl constantBuilder : recording.constantBuilders) {
+            long startNanos = recorder != null ? recorder.nanoTime() : 0;
+            long startBytes = recorder != null ? recorder.allocatedBytes() : 0;
+            RuntimeBeanDefinition<?> beanDefinition = constantBuilder.build();
+            Key<?> key = constantBuilder.key();
+            bindingRegistry.register(key, beanDefinition);
+            addBinding(key, beanDefinition);
+            if (recorder != null) {
+                recorder.recordBinding(key.toString(), startNanos, startBytes);
             }
-        } finally {
-            linkedBindingBuilders.clear();
-            constantBuilders.clear();
         }
+
+        for (Multibinding multibinding : multibindings.values()) {
+            registerMultibinding(multibinding);
+        }
+
+        Map<List<Object>, MapBinding> mapBindings = new LinkedHashMap<>();
+        for (Map.Entry<TypeLiteral<?>, Object> mapEntry : recording.mapEntries) {
+            Object provider = mapEntry.getValue();
+            Key<?> valueKey = GuiceInternals.mapEntryValueKey(provider);
+            String setName = GuiceInternals.setName(valueKey);
+            MapBinding mapBinding = mapBindings.computeIfAbsent(List.of(mapEntry.getKey(), setName), k -> new MapBinding(mapEntry.getKey(), setName));
+            mapBinding.entries.add(Map.entry(GuiceInternals.mapEntryKey(provider), valueKey));
+        }
+        for (MapBinding mapBinding : mapBindings.values()) {
+            registerMapBinding(mapBinding);
+        }
+        bindingRegistry.setBindings(recording.bindings);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> void addBinding(Key<T> key, BeanDefinition<?> definition) {
+        MicronautBinding<T> binding = new MicronautBinding<>(key, null, applicationContext, null, null);
+        binding.setDefinition((BeanDefinition<T>) definition);
+        recording.bindings.putIfAbsent(key, binding);
+    }
+
+    /**
+     * Resolves the modules that need to be configured at runtime in the order they were declared.
+     * Modules whose bindings were computed by the annotation processor are skipped and not instantiated.
+     *
+     * @param applicationContext The application context
+     * @return The modules
+     */
+    private static List<Module> runtimeModules(ApplicationContext applicationContext) {
+        List<BeanDefinition<Module>> definitions = new ArrayList<>(applicationContext.getBeanDefinitions(Module.class));
+        definitions.removeIf(definition -> definition.isTrue(GuiceModule.class, GuiceModule.MEMBER_PRECOMPILED));
+        definitions.sort(Comparator.comparingInt(definition -> definition.intValue(Order.class).orElse(0)));
+        List<Module> modules = new ArrayList<>(definitions.size());
+        for (BeanDefinition<Module> definition : definitions) {
+            modules.add(applicationContext.getBean(definition));
+        }
+        return modules;
+    }
+
+    /**
+     * Registers a {@link CustomScope} for a scope annotation bound with {@link #bindScope(Class, Scope)},
+     * so that beans declaring the annotation are scoped by the Guice scope.
+     *
+     * @param annotationType The scope annotation
+     * @param scope The Guice scope
+     */
+    @SuppressWarnings("unchecked")
+    private void registerScope(Class<? extends Annotation> annotationType, Scope scope) {
+        CustomScope<?> customScope = new GuiceCustomScope<>(annotationType, scope);
+        bindingRegistry.register(RuntimeBeanDefinition.builder(Argument.of(CustomScope.class, annotationType), () -> customScope)
+            .singleton(true)
+            .typeArguments(Argument.of(annotationType))
+            .exposedTypes(CustomScope.class)
+            .build());
+    }
+
+    /**
+     * Registers a Micronaut around interceptor bound to the annotation of a Guice interceptor binding.
+     * The annotation processor adds the interceptor binding to the imported classes the Guice binding applies to.
+     *
+     * @param binding The Guice interceptor binding
+     */
+    private void registerInterceptor(GuiceInterceptorBinding binding) {
+        MutableAnnotationMetadata annotationMetadata = new MutableAnnotationMetadata();
+        annotationMetadata.addRepeatable(
+            InterceptorBindingDefinitions.class.getName(),
+            AnnotationValue.builder(InterceptorBinding.class)
+                .member(AnnotationMetadata.VALUE_MEMBER, new AnnotationClassValue<>(binding.annotationType()))
+                .member("kind", InterceptorKind.AROUND)
+                .build()
+        );
+        GuiceMethodInterceptor interceptor = new GuiceMethodInterceptor(binding.classMatcher(), binding.methodMatcher(), binding.interceptors());
+        bindingRegistry.register(RuntimeBeanDefinition.builder(GuiceMethodInterceptor.class, () -> interceptor)
+            .singleton(true)
+            .annotationMetadata(annotationMetadata)
+            .exposedTypes(Interceptor.class, io.micronaut.aop.MethodInterceptor.class)
+            .build());
+    }
+
+    /**
+     * Registers the {@code Map<K, V>} and {@code Map<K, Provider<V>>} beans of a {@code MapBinder}.
+     * The maps are immutable and the values are only created when first accessed.
+     *
+     * @param mapBinding The recorded map binding
+     */
+    private void registerMapBinding(MapBinding mapBinding) {
+        Map<Object, Provider<Object>> providers = CollectionUtils.newLinkedHashMap(mapBinding.entries.size());
+        for (Map.Entry<Object, Key<?>> entry : mapBinding.entries) {
+            @SuppressWarnings("unchecked")
+            Provider<Object> provider = (Provider<Object>) recording.mapValueBuilders.get(entry.getValue()).provider();
+            if (providers.put(entry.getKey(), provider) != null) {
+                throw new com.google.inject.ConfigurationException(List.of(
+                    new Message("Map injection failed due to duplicated key \"" + entry.getKey() + "\"")
+                ));
+            }
+        }
+        Map<Object, Provider<Object>> providerMap = Collections.unmodifiableMap(providers);
+        Key<?> mapKey = findBoundKey(Types.mapOf(mapBinding.keyType, mapBinding.valueType), mapBinding.setName);
+        registerMultibindingBean(mapKey, Map.class, () -> new LazyProviderMap<>(providerMap));
+        registerMultibindingBean(mapKey.ofType(Types.mapOf(mapBinding.keyType, Types.providerOf(mapBinding.valueType))), Map.class, () -> providerMap);
+        registerMultibindingBean(mapKey.ofType(Types.mapOf(mapBinding.keyType, Types.newParameterizedType(jakarta.inject.Provider.class, mapBinding.valueType))), Map.class, () -> providerMap);
+    }
+
+    /**
+     * Registers the {@code Set<T>}, {@code Set<Provider<T>>} and {@code Collection<Provider<T>>} beans of a {@code Multibinder}.
+     * The elements are also registered as beans of the element type. The {@code Set<T>} creates all elements when injected,
+     * unless lazy multibindings are enabled in which case the elements are created when the set is first accessed.
+     *
+     * @param multibinding The recorded multibinding
+     */
+    private void registerMultibinding(Multibinding multibinding) {
+        Set<Provider<Object>> providers = CollectionUtils.newLinkedHashSet(multibinding.elements.size());
+        for (BeanDefinition<?> element : multibinding.elements) {
+            providers.add(() -> applicationContext.getBean(element));
+        }
+        Set<Provider<Object>> providerSet = Collections.unmodifiableSet(providers);
+        Type elementType = multibinding.elementType.getType();
+        Key<?> setKey = findBoundKey(Types.setOf(elementType), multibinding.setName);
+        if (configuration.isLazyMultibindings()) {
+            registerMultibindingBean(setKey, Set.class, () -> new LazyProviderSet<>(providerSet));
+        } else {
+            registerMultibindingBean(setKey, Set.class, () -> LazyProviderSet.provideAll(providerSet));
+        }
+        registerMultibindingBean(setKey.ofType(Types.setOf(Types.providerOf(elementType))), Set.class, () -> providerSet);
+        registerMultibindingBean(setKey.ofType(Types.collectionOf(Types.providerOf(elementType))), Collection.class, () -> providerSet);
+        registerMultibindingBean(setKey.ofType(Types.collectionOf(Types.newParameterizedType(jakarta.inject.Provider.class, elementType))), Collection.class, () -> providerSet);
+    }
+
+    /**
+     * Finds the key of a multibinding, including its binding annotation, among the keys bound by Guice's own modules.
+     *
+     * @param type The type of the multibinding
+     * @param setName The name Guice uses for the annotation of the multibinding
+     * @return The key
+     */
+    private Key<?> findBoundKey(Type type, String setName) {
+        TypeLiteral<?> typeLiteral = TypeLiteral.get(type);
+        for (Key<?> key : recording.internalKeys) {
+            if (key.getTypeLiteral().equals(typeLiteral) && GuiceInternals.nameOf(key).equals(setName)) {
+                return key;
+            }
+        }
+        return Key.get(typeLiteral);
+    }
+
+    private void registerMultibindingBean(Key<?> key, Class<?> exposedType, Supplier<Object> supplier) {
+        @SuppressWarnings("unchecked")
+        Argument<Object> argument = (Argument<Object>) Argument.of(key.getTypeLiteral().getType());
+        RuntimeBeanDefinition.Builder<Object> builder = RuntimeBeanDefinition.builder(argument, supplier);
+        builder.exposedTypes(exposedType);
+        Annotation annotation = key.getAnnotation();
+        if (annotation instanceof Named named) {
+            bindQualifier(builder, named.value(), null);
+        } else {
+            bindQualifier(builder, null, key.getAnnotationType());
+        }
+        RuntimeBeanDefinition<Object> definition = builder.build();
+        bindingRegistry.register(key, definition);
+        addBinding(key, definition);
     }
 
     @EventListener
     void onStartup(StartupEvent startupEvent) {
         // run more injections
+        Map<Class<?>, Set<Object>> toInject = recording.toInject;
         try {
-            for (Object o : toInject) {
-                applicationContext.inject(o);
+            if (!configuration.isParallelInjection() || toInject.size() < 2) {
+                toInject.forEach(this::injectMembers);
+                return;
+            }
+            List<ForkJoinTask<?>> tasks = new ArrayList<>(toInject.size());
+            toInject.forEach((type, instances) -> tasks.add(ForkJoinPool.commonPool().submit(() -> injectMembers(type, instances))));
+            RuntimeException failure = null;
+            for (ForkJoinTask<?> task : tasks) {
+                try {
+                    task.join();
+                } catch (RuntimeException e) {
+                    // wait for the remaining injections before failing
+                    if (failure == null) {
+                        failure = e;
+                    }
+                }
+            }
+            if (failure != null) {
+                throw failure;
             }
         } finally {
             toInject.clear();
         }
     }
 
+    /**
+     * Injects the members of the instances of a type. Whether the type declares injection points is resolved
+     * once for all the instances.
+     *
+     * @param type The type of the instances
+     * @param instances The instances
+     */
+    @SuppressWarnings("unchecked")
+    private void injectMembers(Class<?> type, Set<Object> instances) {
+        MembersInjector<Object> membersInjector = applicationContext.getBean(Injector.class).getMembersInjector((Class<Object>) type);
+        for (Object instance : instances) {
+            membersInjector.injectMembers(instance);
+        }
+    }
+
     @Override
     public void bindInterceptor(Matcher<? super Class<?>> classMatcher, Matcher<? super Method> methodMatcher, MethodInterceptor... interceptors) {
-        throw new UnsupportedOperationException("Guice interceptors are not supported");
+        Objects.requireNonNull(classMatcher, "Class matcher cannot be null");
+        Objects.requireNonNull(methodMatcher, "Method matcher cannot be null");
+        if (interceptors.length == 0) {
+            return;
+        }
+        Class<? extends Annotation> annotationType = GuiceInternals.annotationTypeOf(methodMatcher);
+        if (annotationType == null) {
+            annotationType = GuiceInternals.annotationTypeOf(classMatcher);
+        }
+        if (annotationType == null) {
+            recording().errors.add(new Message(
+                "Guice interceptors can only be bound to classes or methods matched with Matchers.annotatedWith(..)"
+            ));
+            return;
+        }
+        recording().interceptorBindings.add(new GuiceInterceptorBinding(
+            annotationType,
+            isImpliedBy(classMatcher, annotationType) ? null : classMatcher,
+            isImpliedBy(methodMatcher, annotationType) ? null : methodMatcher,
+            interceptors.clone()
+        ));
+        for (MethodInterceptor interceptor : interceptors) {
+            requestInjection(interceptor);
+        }
+    }
+
+    /**
+     * @param matcher The matcher
+     * @param annotationType The interceptor binding annotation
+     * @return Whether the matcher matches every element the interceptor binding applies to
+     */
+    private static boolean isImpliedBy(Matcher<?> matcher, Class<? extends Annotation> annotationType) {
+        return matcher == Matchers.any()
+            || GuiceInternals.isAnnotatedWithType(matcher) && GuiceInternals.annotationTypeOf(matcher) == annotationType;
     }
 
     @Override
     public void bindScope(Class<? extends Annotation> annotationType, Scope scope) {
+        Objects.requireNonNull(annotationType, "Scope annotation cannot be null");
+        Objects.requireNonNull(scope, "Scope cannot be null");
         if (LinkedBindingBuilderImpl.isCustomScope(scope)) {
-            throw new UnsupportedOperationException("Guice custom scopes are not supported");
+            Scope existing = recording().scopes.putIfAbsent(annotationType, scope);
+            if (existing != null && existing != scope) {
+                recording().errors.add(new Message(annotationType, "Scope annotation " + annotationType.getName() + " is already bound to " + existing));
+            }
         }
     }
 
     @Override
     public <T> LinkedBindingBuilder<T> bind(Key<T> key) {
-        @SuppressWarnings("unchecked")
-        Argument<T> argument = ((Argument<T>) Argument.of(key.getTypeLiteral().getType()));
-        return bind(argument);
+        Recording recording = recording();
+        if (recording.internalModuleDepth > 0) {
+            recording.internalKeys.add(key);
+            return new IgnoredBindingBuilder<>();
+        }
+        if (GuiceInternals.isElement(key)) {
+            LinkedBindingBuilderImpl<T> builder = new LinkedBindingBuilderImpl<>(key.getTypeLiteral());
+            if (GuiceInternals.isMapBinderValue(key)) {
+                // exposed through the map beans
+                recording.mapValueBuilders.put(key, builder);
+            } else {
+                // element keys of multibindings are exposed as regular beans of the element type
+                builder.elementSetName = GuiceInternals.setName(key);
+                recording.linkedBindingBuilders.add(builder);
+            }
+            return builder;
+        }
+        AnnotatedBindingBuilder<T> builder = bind(key.getTypeLiteral());
+        Annotation annotation = key.getAnnotation();
+        Class<? extends Annotation> annotationType = key.getAnnotationType();
+        if (annotationType == null) {
+            return builder;
+        }
+        return annotation != null ? builder.annotatedWith(annotation) : builder.annotatedWith(annotationType);
     }
 
     @Override
     public <T> AnnotatedBindingBuilder<T> bind(TypeLiteral<T> typeLiteral) {
-        @SuppressWarnings("unchecked")
-        Argument<T> argument = (Argument<T>) Argument.of(typeLiteral.getType());
-        return bind(argument);
+        LinkedBindingBuilderImpl<T> builder = new LinkedBindingBuilderImpl<>(typeLiteral);
+        recording().linkedBindingBuilders.add(builder);
+        return builder;
     }
 
     @Override
     public <T> AnnotatedBindingBuilder<T> bind(Class<T> type) {
-        return bind(Argument.of(type));
-    }
-
-    private <T> AnnotatedBindingBuilder<T> bind(Argument<T> argument) {
-        LinkedBindingBuilderImpl<T> builder = new LinkedBindingBuilderImpl<>(argument);
-        linkedBindingBuilders.add(builder);
-        return builder;
+        return bind(TypeLiteral.get(type));
     }
 
     @Override
     public AnnotatedConstantBindingBuilder bindConstant() {
         AnnotatedConstantBindingBuilderImpl builder = new AnnotatedConstantBindingBuilderImpl();
-        constantBuilders.add(builder);
+        recording().constantBuilders.add(builder);
         return builder;
     }
 
@@ -192,10 +635,8 @@ class GuiceModuleBinder implements Binder {
 
     @Override
     public void requestInjection(Object instance) {
-        if (!toInject.contains(instance)) {
-            toInject.add(instance);
-        }
-
+        Objects.requireNonNull(instance, "Instance cannot be null");
+        recording().requestInjection(instance);
     }
 
     @Override
@@ -205,7 +646,18 @@ class GuiceModuleBinder implements Binder {
 
     @Override
     public void install(Module module) {
-        module.configure(this);
+        if (GuiceInternals.isInternal(module)) {
+            // the bindings of Guice's own multibinding modules rely on Guice internals and are replaced by beans
+            Recording recording = recording();
+            recording.internalModuleDepth++;
+            try {
+                module.configure(this);
+            } finally {
+                recording.internalModuleDepth--;
+            }
+        } else {
+            configureModule(module);
+        }
     }
 
     @Override
@@ -233,17 +685,13 @@ class GuiceModuleBinder implements Binder {
     @Override
     public void addError(Message message) {
         Objects.requireNonNull(message, "Message cannot be null");
-        errors.add(message);
+        recording().errors.add(message);
     }
 
     @Override
     public <T> Provider<T> getProvider(Key<T> key) {
         Objects.requireNonNull(key, "Key cannot be null");
-        @SuppressWarnings("unchecked")
-        Argument<T> argument = (Argument<T>) Argument.of(key.getTypeLiteral().getType());
-        @SuppressWarnings("unchecked")
-        BeanProvider<T> provider = applicationContext.getBean(Argument.of(BeanProvider.class, argument));
-        return provider::get;
+        return new DeferredProvider<>(applicationContext, key, () -> bindingsRegistered);
     }
 
     @Override
@@ -255,28 +703,26 @@ class GuiceModuleBinder implements Binder {
     @Override
     public <T> Provider<T> getProvider(Class<T> type) {
         Objects.requireNonNull(type, "Type cannot be null");
-        @SuppressWarnings("unchecked")
-        BeanProvider<T> provider = applicationContext.getBean(Argument.of(BeanProvider.class, type));
-        return provider::get;
+        return getProvider(Key.get(type));
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public <T> MembersInjector<T> getMembersInjector(TypeLiteral<T> typeLiteral) {
-        return instance -> {
-            if (!applicationContext.isRunning()) {
-                throw new IllegalStateException("Injector not started");
-            }
-            applicationContext.inject(instance);
-        };
+        return getMembersInjector((Class<T>) typeLiteral.getRawType());
     }
 
     @Override
     public <T> MembersInjector<T> getMembersInjector(Class<T> type) {
+        Objects.requireNonNull(type, "Type cannot be null");
+        Supplier<MembersInjector<T>> membersInjector = SupplierUtil.memoized(
+            () -> applicationContext.getBean(Injector.class).getMembersInjector(type)
+        );
         return instance -> {
             if (!applicationContext.isRunning()) {
                 throw new IllegalStateException("Injector not started");
             }
-            applicationContext.inject(instance);
+            membersInjector.get().injectMembers(instance);
         };
     }
 
@@ -292,18 +738,22 @@ class GuiceModuleBinder implements Binder {
 
     @Override
     public void bindListener(Matcher<? super Binding<?>> bindingMatcher, ProvisionListener... listeners) {
-        throw new UnsupportedOperationException("Method bindListener is not supported");
+        Objects.requireNonNull(bindingMatcher, "Binding matcher cannot be null");
+        if (listeners.length > 0) {
+            recording().provisionListeners.add(new ProvisionListenerBinding(bindingMatcher, listeners.clone()));
+        }
     }
 
     @Override
     public Binder withSource(Object source) {
-        this.currentSource = source;
+        recording().currentSource = source;
         return this;
     }
 
     @Override
     public Binder skipSources(Class<?>... classesToSkip) {
-        throw new UnsupportedOperationException("Method skipSources is not supported");
+        // sources are only used for error reporting which is handled by Micronaut
+        return this;
     }
 
     @Override
@@ -436,6 +886,14 @@ class GuiceModuleBinder implements Binder {
             this.value = value;
         }
 
+        public Key<?> key() {
+            Class<?> type = value != null ? value.getClass() : Object.class;
+            if (StringUtils.isNotEmpty(name)) {
+                return Key.get(type, Names.named(name));
+            }
+            return annotationType != null ? Key.get(type, annotationType) : Key.get(type);
+        }
+
         @SuppressWarnings("java:S1452")
         public RuntimeBeanDefinition<?> build() {
             Objects.requireNonNull(value, "Binding constant cannot be null, call one of the to(..) methods on the Guice binding");
@@ -446,7 +904,9 @@ class GuiceModuleBinder implements Binder {
     }
 
     private class LinkedBindingBuilderImpl<T> implements LinkedBindingBuilder<T>, AnnotatedBindingBuilder<T> {
+        private final TypeLiteral<T> typeLiteral;
         private final Argument<T> beanType;
+        private final Object source;
 
         private static final List<Class<? extends Annotation>> SINGLETON_CLASSES = List.of(
                 Singleton.class,
@@ -455,32 +915,32 @@ class GuiceModuleBinder implements Binder {
 
         private boolean isSingleton;
         private Class<? extends Annotation> scope;
+        private Scope guiceScope;
 
         private Supplier<T> supplier;
         private Class<? extends Annotation> annotationType;
         private String name;
+        private boolean mapEntry;
+        private String elementSetName;
+        private boolean instanceBinding;
+        private MicronautBinding<T> binding;
+        private Argument<?> target;
 
-        public LinkedBindingBuilderImpl(Argument<T> argument) {
-            this.beanType = argument;
+        @SuppressWarnings("unchecked")
+        public LinkedBindingBuilderImpl(TypeLiteral<T> typeLiteral) {
+            this.typeLiteral = typeLiteral;
+            this.beanType = (Argument<T>) Argument.of(typeLiteral.getType());
+            this.source = recording().currentSource;
         }
 
         @Override
         public ScopedBindingBuilder to(Class<? extends T> implementation) {
-            if (applicationContext.containsBean(implementation)) {
-                BeanProvider<T> provider = applicationContext.getBean(Argument.of(BeanProvider.class, implementation));
-                this.supplier = provider::get;
-            } else {
-                BeanIntrospection<? extends T> introspection = BeanIntrospector.SHARED.findIntrospection(implementation).orElse(null);
-                if (introspection != null) {
-                    this.supplier = introspection::instantiate;
-                } else {
-                    Message message = new Message(currentSource != null ? currentSource : implementation, "Cannot create  binding to type that is not itself declared a bean. " +
-                        "Considering adding @Guice(classes=" + implementation.getSimpleName() + ".class) below your @Guice declaration.");
-                    throw new com.google.inject.ConfigurationException(
-                        List.of(message)
-                    );
-                }
-            }
+            Objects.requireNonNull(implementation, "Implementation cannot be null");
+            Argument<? extends T> argument = Argument.of(implementation);
+            LazyBeanProvider<? extends T> provider = new LazyBeanProvider<>(applicationContext, argument, true, recording().currentSource);
+            recording().lazyTargets.add(provider);
+            this.supplier = provider::get;
+            this.target = argument;
             return this;
         }
 
@@ -499,9 +959,10 @@ class GuiceModuleBinder implements Binder {
         }
 
         private ScopedBindingBuilder to(Argument<T> argument) {
-            @SuppressWarnings("unchecked")
-            BeanProvider<T> provider = applicationContext.getBean(Argument.of(BeanProvider.class, argument));
-            this.supplier = provider::get;
+            LazyBeanProvider<T> provider = new LazyBeanProvider<>(applicationContext, argument, false, recording().currentSource);
+            recording().lazyTargets.add(provider);
+            this.supplier = provider;
+            this.target = argument;
             return this;
         }
 
@@ -509,11 +970,18 @@ class GuiceModuleBinder implements Binder {
         public void toInstance(T instance) {
             Objects.requireNonNull(instance, "Instance cannot be null");
             this.supplier = () -> instance;
+            this.instanceBinding = true;
         }
 
         @Override
         public ScopedBindingBuilder toProvider(Provider<? extends T> provider) {
             Objects.requireNonNull(provider, "Provider cannot be null");
+            if (GuiceInternals.isMapEntryProvider(provider)) {
+                // an entry of a MapBinder, exposed through the map beans
+                this.mapEntry = true;
+                recording().mapEntries.add(Map.<TypeLiteral<?>, Object>entry(typeLiteral, provider));
+                return this;
+            }
             this.supplier = provider::get;
             return this;
         }
@@ -528,8 +996,9 @@ class GuiceModuleBinder implements Binder {
         @Override
         public ScopedBindingBuilder toProvider(Class<? extends jakarta.inject.Provider<? extends T>> providerType) {
             Objects.requireNonNull(providerType, "Provider type cannot be null");
-            @SuppressWarnings("unchecked")
-            BeanProvider<jakarta.inject.Provider<T>> provider = applicationContext.getBean(Argument.of(BeanProvider.class, providerType));
+            LazyBeanProvider<? extends jakarta.inject.Provider<? extends T>> provider =
+                new LazyBeanProvider<>(applicationContext, Argument.of(providerType), false, recording().currentSource);
+            recording().lazyTargets.add(provider);
             this.supplier = () -> provider.get().get();
             return this;
         }
@@ -539,8 +1008,9 @@ class GuiceModuleBinder implements Binder {
             Objects.requireNonNull(providerType, "Provider type cannot be null");
             @SuppressWarnings("unchecked") Argument<? extends jakarta.inject.Provider<? extends T>> argument =
                 (Argument<? extends jakarta.inject.Provider<? extends T>>) Argument.of(providerType.getType());
-            @SuppressWarnings("unchecked")
-            BeanProvider<jakarta.inject.Provider<T>> provider = applicationContext.getBean(Argument.of(BeanProvider.class, argument));
+            LazyBeanProvider<? extends jakarta.inject.Provider<? extends T>> provider =
+                new LazyBeanProvider<>(applicationContext, argument, false, recording().currentSource);
+            recording().lazyTargets.add(provider);
             this.supplier = () -> provider.get().get();
             return this;
         }
@@ -553,15 +1023,15 @@ class GuiceModuleBinder implements Binder {
 
         @Override
         public <S extends T> ScopedBindingBuilder toConstructor(Constructor<S> constructor) {
-            supplier = () -> InstantiationUtils.tryInstantiate(constructor)
-                .orElseThrow(() -> new BeanInstantiationException("Unable to instance bean via constructor: " + constructor));
-            return this;
+            Objects.requireNonNull(constructor, "Constructor cannot be null");
+            return toConstructor(constructor, TypeLiteral.get(constructor.getDeclaringClass()));
         }
 
         @Override
         public <S extends T> ScopedBindingBuilder toConstructor(Constructor<S> constructor, TypeLiteral<? extends S> type) {
-            supplier = () -> InstantiationUtils.tryInstantiate(constructor)
-                .orElseThrow(() -> new BeanInstantiationException("Unable to instance bean via constructor: " + constructor));
+            Objects.requireNonNull(constructor, "Constructor cannot be null");
+            ConstructorProvider<? extends S> provider = new ConstructorProvider<>(() -> applicationContext.getBean(Injector.class), constructor, type);
+            supplier = provider::get;
             return this;
         }
 
@@ -575,14 +1045,32 @@ class GuiceModuleBinder implements Binder {
 
         @Override
         public void in(Scope scope) {
+            Objects.requireNonNull(scope, "Scope cannot be null");
             if (isCustomScope(scope)) {
-                throw new IllegalArgumentException("Custom Guice scopes are not supported");
-            }
-            if (scope == Scopes.SINGLETON) {
+                this.guiceScope = scope;
+            } else if (scope == Scopes.SINGLETON) {
                 this.isSingleton = true;
             }
         }
 
+        /**
+         * @return The custom Guice scope of the binding, either bound directly or through a scope annotation
+         */
+        private @Nullable Scope customScope() {
+            if (guiceScope != null) {
+                return guiceScope;
+            }
+            return scope != null ? recording.scopes.get(scope) : null;
+        }
+
+        private Supplier<T> scoped(Supplier<T> beanSupplier, @Nullable Scope customScope) {
+            if (customScope == null) {
+                return beanSupplier;
+            }
+            Provider<T> scoped = customScope.scope(key(), beanSupplier::get);
+            return scoped::get;
+        }
+
         private static boolean isCustomScope(Scope scope) {
             return !(scope == Scopes.SINGLETON || scope == Scopes.NO_SCOPE);
         }
@@ -593,8 +1081,36 @@ class GuiceModuleBinder implements Binder {
             this.scope = Context.class;
         }
 
-        public RuntimeBeanDefinition<T> build() {
-            Objects.requireNonNull(beanType, "Bean type cannot be null");
+        /**
+         * @return Whether the binding is an eager singleton created by the {@link EagerSingletonInitializer}, which in the
+         * {@code PRODUCTION} stage includes every singleton binding
+         */
+        boolean isParallelEager() {
+            if (!configuration.isParallelEagerSingletons() || customScope() != null || mapEntry) {
+                return false;
+            }
+            return scope == Context.class || (isSingleton && currentStage() == Stage.PRODUCTION);
+        }
+
+        public Key<T> key() {
+            if (StringUtils.isNotEmpty(name)) {
+                return Key.get(typeLiteral, Names.named(name));
+            }
+            return annotationType != null ? Key.get(typeLiteral, annotationType) : Key.get(typeLiteral);
+        }
+
+        /**
+         * @return A provider of the bound value that honours singleton scoping, for bindings that are not registered as beans.
+         */
+        Provider<T> provider() {
+            Supplier<T> beanSupplier = scoped(resolveSupplier(), customScope());
+            if (isSingleton) {
+                beanSupplier = SupplierUtil.memoized(beanSupplier);
+            }
+            return beanSupplier::get;
+        }
+
+        private Supplier<T> resolveSupplier() {
             if (supplier == null) {
                 // untargetted binding
                 Class<T> javaType = beanType.getType();
@@ -620,25 +1136,58 @@ class GuiceModuleBinder implements Binder {
                     } else {
                         BeanDefinition<T> beanDefinition = applicationContext.getBeanDefinition(javaType);
                         toProvider(() -> applicationContext.getBean(beanDefinition));
+                        this.target = beanType;
                     }
                 }
             }
             Objects.requireNonNull(supplier, "Bean Provider cannot be null, call one of the binding methods like to(instance)");
 
+            return () -> {
+                try {
+                    return supplier.get();
+                } catch (NoSuchBeanException e) {
+                    throw new CreationException(List.of(
+                        new Message("Guice binding to bean [" + beanType.getTypeName() + "] cannot be resolved since no bean exists. " +
+                            "Considering adding @Guice(classes=" + beanType.getSimpleName() + ".class) to the @Guice annotation definition."),
+                        new Message(e.getMessage(), e)
+                    ));
+                }
+            };
+        }
+
+        /**
+         * Matches the binding against the registered provision listeners, once.
+         *
+         * @param beanSupplier The supplier of the bean
+         * @return The supplier itself if no listener matches, otherwise a supplier that notifies the matching listeners
+         */
+        private Supplier<T> withProvisionListeners(Supplier<T> beanSupplier) {
+            MicronautBinding<T> binding = binding();
+            List<ProvisionListener> matched = new ArrayList<>();
+            for (ProvisionListenerBinding listenerBinding : recording.provisionListeners) {
+                if (listenerBinding.matcher().matches(binding)) {
+                    Collections.addAll(matched, listenerBinding.listeners());
+                }
+            }
+            if (matched.isEmpty()) {
+                return beanSupplier;
+            }
+            ProvisionListener[] listeners = matched.toArray(new ProvisionListener[0]);
+            return () -> new ProvisionListenerInvocation<>(binding, beanSupplier, listeners).provision();
+        }
+
+        public RuntimeBeanDefinition<T> build() {
+            Objects.requireNonNull(beanType, "Bean type cannot be null");
+            Supplier<T> beanSupplier = resolveSupplier();
+            Scope customScope = customScope();
+            if (!instanceBinding && !recording.provisionListeners.isEmpty()) {
+                beanSupplier = withProvisionListeners(beanSupplier);
+            }
             RuntimeBeanDefinition.Builder<T> builder = RuntimeBeanDefinition
-                .builder(beanType, () -> {
-                    try {
-                        return supplier.get();
-                    } catch (NoSuchBeanException e) {
-                        throw new CreationException(List.of(
-                            new Message("Guice binding to bean [" + beanType.getTypeName() + "] cannot be resolved since no bean exists. " +
-                                "Considering adding @Guice(classes=" + beanType.getSimpleName() + ".class) to the @Guice annotation definition."),
-                            new Message(e.getMessage(), e)
-                        ));
-                    }
-                });
+                .builder(beanType, scoped(beanSupplier, customScope));
 
-            if (scope != null) {
+            if (scope != null && customScope == null && !(scope == Context.class && configuration.isParallelEagerSingletons())) {
+                // eager singletons are created by the EagerSingletonInitializer when created in parallel
                 builder.scope(scope);
             }
             if (isSingleton) {
@@ -648,8 +1197,19 @@ class GuiceModuleBinder implements Binder {
             String beanName = name;
             Class<? extends Annotation> beanQualifier = annotationType;
             bindQualifier(builder, beanName, beanQualifier);
-            return builder
-                .build();
+            RuntimeBeanDefinition<T> definition = builder.build();
+            binding().setDefinition(definition);
+            return definition;
+        }
+
+        /**
+         * @return The binding, of which the definition is set once it is built
+         */
+        MicronautBinding<T> binding() {
+            if (binding == null) {
+                binding = new MicronautBinding<>(key(), source, applicationContext, isSingleton ? Scopes.SINGLETON : customScope(), scope);
+            }
+            return binding;
         }
 
         @Override
@@ -670,4 +1230,205 @@ class GuiceModuleBinder implements Binder {
             }
         }
     }
+
+    /**
+     * The state recorded while configuring modules.
+     */
+    private static final class Recording {
+        private final List<LinkedBindingBuilderImpl<?>> linkedBindingBuilders = new ArrayList<>();
+        private final List<AnnotatedConstantBindingBuilderImpl> constantBuilders = new ArrayList<>();
+        private final List<Message> errors = new ArrayList<>();
+        private final Map<Class<?>, Set<Object>> toInject = new LinkedHashMap<>();
+        private final List<Key<?>> internalKeys = new ArrayList<>();
+        private final Map<Key<?>, LinkedBindingBuilderImpl<?>> mapValueBuilders = new HashMap<>();
+        private final List<Map.Entry<TypeLiteral<?>, Object>> mapEntries = new ArrayList<>();
+        private final List<ProvisionListenerBinding> provisionListeners = new ArrayList<>();
+        private final Map<Class<? extends Annotation>, Scope> scopes = new LinkedHashMap<>();
+        private final List<GuiceInterceptorBinding> interceptorBindings = new ArrayList<>();
+        private final Map<Key<?>, Binding<?>> bindings = new HashMap<>();
+        private final List<EagerSingletonInitializer.EagerSingleton> eagerSingletons = new ArrayList<>();
+        private final List<LazyBeanProvider<?>> lazyTargets = new ArrayList<>();
+        private int internalModuleDepth;
+        private Object currentSource;
+        private Module currentModule;
+
+        void merge(Recording other) {
+            linkedBindingBuilders.addAll(other.linkedBindingBuilders);
+            constantBuilders.addAll(other.constantBuilders);
+            errors.addAll(other.errors);
+            other.toInject.forEach((type, instances) -> instancesOf(type).addAll(instances));
+            internalKeys.addAll(other.internalKeys);
+            mapValueBuilders.putAll(other.mapValueBuilders);
+            mapEntries.addAll(other.mapEntries);
+            provisionListeners.addAll(other.provisionListeners);
+            interceptorBindings.addAll(other.interceptorBindings);
+            lazyTargets.addAll(other.lazyTargets);
+            other.scopes.forEach((annotationType, scope) -> {
+                Scope existing = scopes.putIfAbsent(annotationType, scope);
+                if (existing != null && existing != scope) {
+                    errors.add(new Message(annotationType, "Scope annotation " + annotationType.getName() + " is already bound to " + existing));
+                }
+            });
+        }
+
+        /**
+         * Requests the injection of an instance, once however often it is requested.
+         *
+         * @param instance The instance
+         */
+        void requestInjection(Object instance) {
+            instancesOf(instance.getClass()).add(instance);
+        }
+
+        private Set<Object> instancesOf(Class<?> type) {
+            // instances are compared by identity, as in Guice
+            return toInject.computeIfAbsent(type, k -> Collections.newSetFromMap(new IdentityHashMap<>()));
+        }
+
+        void clearBindings() {
+            linkedBindingBuilders.clear();
+            constantBuilders.clear();
+            internalKeys.clear();
+            mapValueBuilders.clear();
+            mapEntries.clear();
+            provisionListeners.clear();
+            interceptorBindings.clear();
+            bindings.clear();
+            eagerSingletons.clear();
+            lazyTargets.clear();
+        }
+    }
+
+    /**
+     * Provision listeners registered for the bindings matching a matcher.
+     *
+     * @param matcher The binding matcher
+     * @param listeners The listeners
+     */
+    private record ProvisionListenerBinding(Matcher<? super Binding<?>> matcher, ProvisionListener[] listeners) {
+    }
+
+    /**
+     * Interceptors bound to the classes or methods annotated with an annotation.
+     *
+     * @param annotationType The annotation matched by {@code Matchers.annotatedWith(..)}
+     * @param classMatcher The class matcher if it needs to be evaluated, otherwise {@code null}
+     * @param methodMatcher The method matcher if it needs to be evaluated, otherwise {@code null}
+     * @param interceptors The interceptors
+     */
+    private record GuiceInterceptorBinding(Class<? extends Annotation> annotationType,
+                                           @Nullable Matcher<? super Class<?>> classMatcher,
+                                           @Nullable Matcher<? super Method> methodMatcher,
+                                           MethodInterceptor[] interceptors) {
+    }
+
+    /**
+     * The entries contributed to a {@code MapBinder}.
+     */
+    private static final class MapBinding {
+        private final Type keyType;
+        private final Type valueType;
+        private final String setName;
+        private final List<Map.Entry<Object, Key<?>>> entries = new ArrayList<>();
+
+        MapBinding(TypeLiteral<?> entryType, String setName) {
+            // Map.Entry<K, Provider<V>>
+            Type[] typeArguments = ((ParameterizedType) entryType.getType()).getActualTypeArguments();
+            this.keyType = typeArguments[0];
+            this.valueType = ((ParameterizedType) typeArguments[1]).getActualTypeArguments()[0];
+            this.setName = setName;
+        }
+
+    }
+
+    /**
+     * The elements contributed to a {@code Multibinder}.
+     */
+    private static final class Multibinding {
+        private final TypeLiteral<?> elementType;
+        private final String setName;
+        private final List<BeanDefinition<?>> elements = new ArrayList<>();
+
+        Multibinding(TypeLiteral<?> elementType, String setName) {
+            this.elementType = elementType;
+            this.setName = setName;
+        }
+    }
+
+    /**
+     * A builder for bindings that are replaced by beans and hence ignored.
+     *
+     * @param <T> The bound type
+     */
+    private static final class IgnoredBindingBuilder<T> implements LinkedBindingBuilder<T> {
+        @Override
+        public ScopedBindingBuilder to(Class<? extends T> implementation) {
+            return this;
+        }
+
+        @Override
+        public ScopedBindingBuilder to(TypeLiteral<? extends T> implementation) {
+            return this;
+        }
+
+        @Override
+        public ScopedBindingBuilder to(Key<? extends T> targetKey) {
+            return this;
+        }
+
+        @Override
+        public void toInstance(T instance) {
+            // no-op
+        }
+
+        @Override
+        public ScopedBindingBuilder toProvider(Provider<? extends T> provider) {
+            return this;
+        }
+
+        @Override
+        public ScopedBindingBuilder toProvider(jakarta.inject.Provider<? extends T> provider) {
+            return this;
+        }
+
+        @Override
+        public ScopedBindingBuilder toProvider(Class<? extends jakarta.inject.Provider<? extends T>> providerType) {
+            return this;
+        }
+
+        @Override
+        public ScopedBindingBuilder toProvider(TypeLiteral<? extends jakarta.inject.Provider<? extends T>> providerType) {
+            return this;
+        }
+
+        @Override
+        public ScopedBindingBuilder toProvider(Key<? extends jakarta.inject.Provider<? extends T>> providerKey) {
+            return this;
+        }
+
+        @Override
+        public <S extends T> ScopedBindingBuilder toConstructor(Constructor<S> constructor) {
+            return this;
+        }
+
+        @Override
+        public <S extends T> ScopedBindingBuilder toConstructor(Constructor<S> constructor, TypeLiteral<? extends S> type) {
+            return this;
+        }
+
+        @Override
+        public void in(Class<? extends Annotation> scopeAnnotation) {
+            // no-op
+        }
+
+        @Override
+        public void in(Scope scope) {
+            // no-op
+        }
+
+        @Override
+        public void asEagerSingleton() {
+            // no-op
+        }
+    }
 }
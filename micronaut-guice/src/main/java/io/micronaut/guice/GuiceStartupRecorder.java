@@ -0,0 +1,94 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guice;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Records the measurements of a {@link GuiceStartupReport}. Only created when the report is enabled.
+ */
+@Internal
+final class GuiceStartupRecorder {
+    private final com.sun.management.ThreadMXBean threadBean;
+    private final ConcurrentLinkedQueue<GuiceStartupReport.Measurement> modules = new ConcurrentLinkedQueue<>();
+    private final List<GuiceStartupReport.Measurement> bindings = new ArrayList<>();
+
+    GuiceStartupRecorder() {
+        com.sun.management.ThreadMXBean bean = null;
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean sunBean
+            && sunBean.isThreadAllocatedMemorySupported()
+            && sunBean.isThreadAllocatedMemoryEnabled()) {
+            bean = sunBean;
+        }
+        this.threadBean = bean;
+    }
+
+    /**
+     * @return The current time in nanoseconds
+     */
+    long nanoTime() {
+        return System.nanoTime();
+    }
+
+    /**
+     * @return The bytes allocated by the current thread or {@code -1} if not supported
+     */
+    long allocatedBytes() {
+        return threadBean != null ? threadBean.getCurrentThreadAllocatedBytes() : -1;
+    }
+
+    /**
+     * Records the configuration of a module. May be called concurrently.
+     *
+     * @param name The module name
+     * @param parent The name of the installing module
+     * @param startNanos The start time
+     * @param startBytes The allocated bytes at the start
+     */
+    void recordModule(String name, @Nullable String parent, long startNanos, long startBytes) {
+        modules.add(measure(name, parent, startNanos, startBytes));
+    }
+
+    /**
+     * Records the registration of a binding.
+     *
+     * @param name The binding name
+     * @param startNanos The start time
+     * @param startBytes The allocated bytes at the start
+     */
+    void recordBinding(String name, long startNanos, long startBytes) {
+        bindings.add(measure(name, null, startNanos, startBytes));
+    }
+
+    private GuiceStartupReport.Measurement measure(String name, @Nullable String parent, long startNanos, long startBytes) {
+        Duration duration = Duration.ofNanos(nanoTime() - startNanos);
+        long allocated = startBytes >= 0 ? allocatedBytes() - startBytes : -1;
+        return new GuiceStartupReport.Measurement(name, parent, duration, allocated);
+    }
+
+    /**
+     * @return The report
+     */
+    GuiceStartupReport toReport() {
+        return new GuiceStartupReport(new ArrayList<>(modules), bindings);
+    }
+}
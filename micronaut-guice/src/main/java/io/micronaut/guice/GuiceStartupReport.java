@@ -0,0 +1,96 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guice;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The time and memory spent configuring Guice modules and registering their bindings at startup.
+ * The report is only available as a bean when {@code guice.startup-report} is enabled.
+ */
+public final class GuiceStartupReport {
+    private final List<Measurement> modules;
+    private final List<Measurement> bindings;
+
+    GuiceStartupReport(List<Measurement> modules, List<Measurement> bindings) {
+        this.modules = sorted(modules);
+        this.bindings = sorted(bindings);
+    }
+
+    /**
+     * The modules, including installed modules, sorted by the time spent in {@code Module.configure}.
+     * The measurements of modules include the modules they install.
+     *
+     * @return The module measurements
+     */
+    @NonNull
+    public List<Measurement> getModules() {
+        return modules;
+    }
+
+    /**
+     * The bindings sorted by the time spent creating and registering their bean definitions.
+     *
+     * @return The binding measurements
+     */
+    @NonNull
+    public List<Measurement> getBindings() {
+        return bindings;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("Guice startup report").append(System.lineSeparator());
+        append(builder, "Modules", modules);
+        append(builder, "Bindings", bindings);
+        return builder.toString();
+    }
+
+    private static void append(StringBuilder builder, String title, List<Measurement> measurements) {
+        Duration total = measurements.stream().map(Measurement::duration).reduce(Duration.ZERO, Duration::plus);
+        builder.append(title).append(" (").append(measurements.size()).append(", ").append(total.toMillis()).append("ms)")
+            .append(System.lineSeparator());
+        for (Measurement measurement : measurements) {
+            builder.append(String.format("  %10.3fms %10dB  %s%s",
+                measurement.duration().toNanos() / 1_000_000d,
+                measurement.allocatedBytes(),
+                measurement.name(),
+                measurement.parent() != null ? " (installed by " + measurement.parent() + ")" : ""
+            )).append(System.lineSeparator());
+        }
+    }
+
+    private static List<Measurement> sorted(List<Measurement> measurements) {
+        return measurements.stream()
+            .sorted(Comparator.comparing(Measurement::duration).reversed())
+            .toList();
+    }
+
+    /**
+     * The cost of configuring a module or registering a binding.
+     *
+     * @param name The name of the module or the key of the binding
+     * @param parent The name of the module that installed the module, if any
+     * @param duration The wall-clock time
+     * @param allocatedBytes The bytes allocated by the configuring thread or {@code -1} if the JVM does not support measuring allocations
+     */
+    public record Measurement(@NonNull String name, @Nullable String parent, @NonNull Duration duration, long allocatedBytes) {
+    }
+}
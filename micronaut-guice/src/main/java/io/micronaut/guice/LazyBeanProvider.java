@@ -0,0 +1,105 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guice;
+
+import com.google.inject.spi.Message;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.beans.BeanIntrospection;
+import io.micronaut.core.beans.BeanIntrospector;
+import io.micronaut.core.type.Argument;
+import io.micronaut.inject.BeanDefinition;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Supplies the bean that is the target of a Guice binding. The target is only looked up on first provision
+ * and the lookup is memoized, so configuring a module does not resolve any beans. Whether the target exists is
+ * checked by {@link #validate()} once every binding is registered.
+ *
+ * @param <T> The bean type
+ */
+@Internal
+final class LazyBeanProvider<T> implements Supplier<T> {
+    private final ApplicationContext applicationContext;
+    private final Argument<T> argument;
+    private final boolean allowIntrospection;
+    private final Object source;
+    private final Memoized<Supplier<T>> target = new Memoized<>(this::resolve);
+
+    /**
+     * @param applicationContext The application context
+     * @param argument The type of the target
+     * @param allowIntrospection Whether a type that is not a bean can be instantiated through its introspection
+     * @param source The source of the binding used for error reporting
+     */
+    LazyBeanProvider(ApplicationContext applicationContext, Argument<T> argument, boolean allowIntrospection, @Nullable Object source) {
+        this.applicationContext = applicationContext;
+        this.argument = argument;
+        this.allowIntrospection = allowIntrospection;
+        this.source = source;
+    }
+
+    @Override
+    public T get() {
+        return target.get().get();
+    }
+
+    /**
+     * @return The type of the target
+     */
+    Argument<T> getArgument() {
+        return argument;
+    }
+
+    /**
+     * Checks that the target can be resolved, without resolving it, so that a missing target is reported when the
+     * injector is created.
+     *
+     * @return The error if the target is neither a bean nor introspected
+     */
+    @Nullable Message validate() {
+        Class<T> type = argument.getType();
+        if (applicationContext.containsBean(type) || (allowIntrospection && BeanIntrospector.SHARED.findIntrospection(type).isPresent())) {
+            return null;
+        }
+        return missingTarget();
+    }
+
+    private Supplier<T> resolve() {
+        BeanDefinition<T> definition = applicationContext.findBeanDefinition(argument).orElse(null);
+        if (definition != null) {
+            return () -> applicationContext.getBean(definition);
+        }
+        if (allowIntrospection) {
+            BeanIntrospection<T> introspection = BeanIntrospector.SHARED.findIntrospection(argument.getType()).orElse(null);
+            if (introspection != null) {
+                return introspection::instantiate;
+            }
+            throw new com.google.inject.ConfigurationException(
+                List.of(missingTarget())
+            );
+        }
+        // fails with the appropriate exception
+        return () -> applicationContext.getBean(argument);
+    }
+
+    private Message missingTarget() {
+        return new Message(source != null ? source : argument.getType(), "Cannot create binding to type that is not itself declared a bean. " +
+            "Considering adding @Guice(classes=" + argument.getSimpleName() + ".class) below your @Guice declaration.");
+    }
+}
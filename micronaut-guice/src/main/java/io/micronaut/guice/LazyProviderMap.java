@@ -0,0 +1,106 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guice;
+
+import com.google.inject.Provider;
+import io.micronaut.core.annotation.Internal;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An immutable map whose values are obtained from providers the first time they are accessed.
+ *
+ * @param <K> The key type
+ * @param <V> The value type
+ */
+@Internal
+final class LazyProviderMap<K, V> extends AbstractMap<K, V> {
+    private final Map<K, Provider<V>> providers;
+    private final Map<K, V> values = new ConcurrentHashMap<>();
+
+    /**
+     * @param providers An immutable map of providers
+     */
+    LazyProviderMap(Map<K, Provider<V>> providers) {
+        this.providers = providers;
+    }
+
+    @Override
+    public V get(Object key) {
+        V value = values.get(key);
+        if (value == null) {
+            Provider<V> provider = providers.get(key);
+            if (provider == null) {
+                return null;
+            }
+            @SuppressWarnings("unchecked")
+            K k = (K) key;
+            // not computeIfAbsent since the provider may access other values of the map
+            value = provider.get();
+            V existing = values.putIfAbsent(k, value);
+            if (existing != null) {
+                return existing;
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return providers.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return providers.size();
+    }
+
+    @Override
+    public Set<K> keySet() {
+        return providers.keySet();
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                Iterator<K> keys = providers.keySet().iterator();
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return keys.hasNext();
+                    }
+
+                    @Override
+                    public Entry<K, V> next() {
+                        K key = keys.next();
+                        return new SimpleImmutableEntry<>(key, get(key));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return providers.size();
+            }
+        };
+    }
+}
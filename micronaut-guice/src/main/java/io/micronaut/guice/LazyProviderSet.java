@@ -0,0 +1,92 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guice;
+
+import com.google.inject.Provider;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.util.CollectionUtils;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * An immutable set whose elements are obtained from providers the first time the set is accessed.
+ *
+ * @param <T> The element type
+ */
+@Internal
+final class LazyProviderSet<T> extends AbstractSet<T> {
+    private final Collection<Provider<T>> providers;
+    private volatile Set<T> elements;
+
+    /**
+     * @param providers An immutable collection of providers
+     */
+    LazyProviderSet(Collection<Provider<T>> providers) {
+        this.providers = providers;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return elements().iterator();
+    }
+
+    @Override
+    public int size() {
+        return elements().size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return providers.isEmpty();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return elements().contains(o);
+    }
+
+    private Set<T> elements() {
+        Set<T> result = elements;
+        if (result == null) {
+            synchronized (this) {
+                result = elements;
+                if (result == null) {
+                    result = provideAll(providers);
+                    elements = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Obtains the elements of all providers.
+     *
+     * @param providers The providers
+     * @return An immutable set of the elements
+     * @param <T> The element type
+     */
+    static <T> Set<T> provideAll(Collection<Provider<T>> providers) {
+        Set<T> elements = CollectionUtils.newLinkedHashSet(providers.size());
+        for (Provider<T> provider : providers) {
+            elements.add(provider.get());
+        }
+        return Collections.unmodifiableSet(elements);
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guice;
+
+import io.micronaut.core.annotation.Internal;
+import java.util.function.Supplier;
+
+/**
+ * Memoizes the value of a supplier without locking, for values that are resolved on the provision paths.
+ *
+ * <p>Under contention the supplier may be called more than once and any of the results kept, so it must only look
+ * up values, without side effects, and return interchangeable results. A call that fails is not memoized.</p>
+ *
+ * @param <T> The type of the value
+ */
+@Internal
+final class Memoized<T> implements Supplier<T> {
+    private final Supplier<T> supplier;
+    private volatile T value;
+
+    /**
+     * @param supplier Supplies the value, which must not be {@code null}
+     */
+    Memoized(Supplier<T> supplier) {
+        this.supplier = supplier;
+    }
+
+    @Override
+    public T get() {
+        T result = value;
+        if (result == null) {
+            result = supplier.get();
+            value = result;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guice;
+
+import com.google.inject.Binder;
+import com.google.inject.Binding;
+import com.google.inject.Key;
+import com.google.inject.Provider;
+import com.google.inject.Scope;
+import com.google.inject.spi.BindingScopingVisitor;
+import com.google.inject.spi.BindingTargetVisitor;
+import com.google.inject.spi.ElementVisitor;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.annotation.Context;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.inject.BeanDefinition;
+import java.lang.annotation.Annotation;
+
+/**
+ * A {@link Binding} of a Guice module that is backed by a Micronaut bean, or by a provider for the bindings
+ * of child injectors.
+ *
+ * @param <T> The bound type
+ */
+@Internal
+final class MicronautBinding<T> implements Binding<T> {
+    private final Key<T> key;
+    private final Object source;
+    private final Scope scope;
+    private final Class<? extends Annotation> scopeAnnotation;
+    private final ApplicationContext applicationContext;
+    private final Provider<T> provider;
+    private BeanDefinition<T> definition;
+
+    /**
+     * Creates a binding that is backed by a bean definition, which is set once it is built.
+     *
+     * @param key The key
+     * @param source The source of the binding
+     * @param applicationContext The application context
+     * @param scope The scope instance, if any
+     * @param scopeAnnotation The scope annotation, if any
+     */
+    MicronautBinding(Key<T> key, @Nullable Object source, ApplicationContext applicationContext, @Nullable Scope scope, @Nullable Class<? extends Annotation> scopeAnnotation) {
+        this.key = key;
+        this.source = source;
+        this.applicationContext = applicationContext;
+        this.provider = null;
+        this.scope = scope;
+        this.scopeAnnotation = scopeAnnotation;
+    }
+
+    /**
+     * Creates a binding that is backed by a provider.
+     *
+     * @param key The key
+     * @param source The source of the binding
+     * @param provider The provider
+     * @param scope The scope instance, if any
+     * @param scopeAnnotation The scope annotation, if any
+     */
+    MicronautBinding(Key<T> key, @Nullable Object source, Provider<T> provider, @Nullable Scope scope, @Nullable Class<? extends Annotation> scopeAnnotation) {
+        this.key = key;
+        this.source = source;
+        this.applicationContext = null;
+        this.provider = provider;
+        this.scope = scope;
+        this.scopeAnnotation = scopeAnnotation;
+    }
+
+    /**
+     * @param definition The bean definition of the binding
+     */
+    void setDefinition(BeanDefinition<T> definition) {
+        this.definition = definition;
+    }
+
+    /**
+     * @return The bean definition of the binding, if it is backed by one
+     */
+    @Nullable
+    BeanDefinition<T> getDefinition() {
+        return definition;
+    }
+
+    @Override
+    public Key<T> getKey() {
+        return key;
+    }
+
+    @Override
+    public Provider<T> getProvider() {
+        if (provider != null) {
+            return provider;
+        }
+        BeanDefinition<T> beanDefinition = definition;
+        if (beanDefinition == null) {
+            throw new IllegalStateException("The binding for " + key + " is not registered yet");
+        }
+        return () -> applicationContext.getBean(beanDefinition);
+    }
+
+    @Override
+    public <V> V acceptTargetVisitor(BindingTargetVisitor<? super T, V> visitor) {
+        throw new UnsupportedOperationException("Binding target visitors are not supported");
+    }
+
+    @Override
+    public <V> V acceptScopingVisitor(BindingScopingVisitor<V> visitor) {
+        if (scopeAnnotation == Context.class) {
+            return visitor.visitEagerSingleton();
+        }
+        if (scope != null) {
+            return visitor.visitScope(scope);
+        }
+        if (scopeAnnotation != null) {
+            return visitor.visitScopeAnnotation(scopeAnnotation);
+        }
+        return visitor.visitNoScoping();
+    }
+
+    @Override
+    public Object getSource() {
+        return source != null ? source : key;
+    }
+
+    @Override
+    public <V> V acceptVisitor(ElementVisitor<V> visitor) {
+        return visitor.visit(this);
+    }
+
+    @Override
+    public void applyTo(Binder binder) {
+        throw new UnsupportedOperationException("Bindings cannot be applied to another binder");
+    }
+
+    @Override
+    public String toString() {
+        return "MicronautBinding{key=" + key + ", source=" + getSource() + "}";
+    }
+}
@@ -22,103 +22,280 @@ import com.google.inject.MembersInjector;
 import com.google.inject.Module;
 import com.google.inject.Provider;
 import com.google.inject.Scope;
+import com.google.inject.Scopes;
 import com.google.inject.TypeLiteral;
 import com.google.inject.name.Named;
 import com.google.inject.spi.Element;
 import com.google.inject.spi.InjectionPoint;
+import com.google.inject.spi.Message;
 import com.google.inject.spi.TypeConverterBinding;
 import io.micronaut.context.ApplicationContext;
 import io.micronaut.context.Qualifier;
+import io.micronaut.context.exceptions.NonUniqueBeanException;
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.type.Argument;
+import io.micronaut.core.util.clhm.ConcurrentLinkedHashMap;
+import io.micronaut.guice.annotation.internal.GuiceKeyTable;
+import io.micronaut.inject.BeanDefinition;
 import io.micronaut.inject.qualifiers.Qualifiers;
 import jakarta.inject.Singleton;
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Subset implementation of the {@link Injector} interface.
+ *
+ * <p>Keys known at compilation time, as listed by the generated {@link GuiceKeyTable}s, are dispatched through a fixed
+ * table that is built once and maps each key to its bean definition. Other keys go through a bounded cache, as do the
+ * members injectors of types.</p>
  */
 @Singleton
 @Internal
 final class MicronautInjector
-    implements Injector {
+    implements Injector, BatchMembersInjector {
+    private static final int MAX_CACHED_PROVIDERS = 2048;
     private final ApplicationContext applicationContext;
+    private final GuiceBindingRegistry bindingRegistry;
+    private final Map<Object, CachedProvider<?>> providers = new ConcurrentLinkedHashMap.Builder<Object, CachedProvider<?>>()
+        .maximumWeightedCapacity(MAX_CACHED_PROVIDERS)
+        .build();
+    private final Map<Object, DispatchedProvider<?>> dispatchTable;
+    private final Map<Class<?>, BeanMembersInjector<?>> membersInjectors = new ConcurrentLinkedHashMap.Builder<Class<?>, BeanMembersInjector<?>>()
+        .maximumWeightedCapacity(MAX_CACHED_PROVIDERS)
+        .build();
 
-    MicronautInjector(ApplicationContext applicationContext) {
+    MicronautInjector(ApplicationContext applicationContext, GuiceBindingRegistry bindingRegistry, List<GuiceKeyTable> keyTables) {
         this.applicationContext = applicationContext;
+        this.bindingRegistry = bindingRegistry;
+        Map<Object, DispatchedProvider<?>> dispatchTable = new HashMap<>();
+        for (GuiceKeyTable keyTable : keyTables) {
+            for (Key<?> key : keyTable.keys()) {
+                DispatchedProvider<?> provider = new DispatchedProvider<>(key);
+                dispatchTable.putIfAbsent(key, provider);
+                if (key.getAnnotationType() == null && key.getTypeLiteral().getType() instanceof Class<?> type) {
+                    dispatchTable.putIfAbsent(type, provider);
+                }
+            }
+        }
+        this.dispatchTable = Map.copyOf(dispatchTable);
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public void injectMembers(Object instance) {
-        applicationContext.inject(instance);
+        Objects.requireNonNull(instance, "Instance cannot be null");
+        getMembersInjector((Class<Object>) instance.getClass()).injectMembers(instance);
+    }
+
+    @Override
+    public void injectMembers(Iterable<?> instances) {
+        Objects.requireNonNull(instances, "Instances cannot be null");
+        injectMembers(instances.iterator());
+    }
+
+    @Override
+    public void injectMembers(Stream<?> instances) {
+        Objects.requireNonNull(instances, "Instances cannot be null");
+        if (instances.isParallel()) {
+            // the members injectors of the types are cached and reuse their plans
+            instances.forEach(this::injectMembers);
+        } else {
+            injectMembers(instances.iterator());
+        }
     }
 
+    /**
+     * Injects the members of the given instances, grouped by type.
+     *
+     * @param instances The instances
+     */
+    private void injectMembers(Iterator<?> instances) {
+        Map<Class<?>, List<Object>> instancesByType = new LinkedHashMap<>();
+        while (instances.hasNext()) {
+            Object instance = instances.next();
+            Objects.requireNonNull(instance, "Instance cannot be null");
+            instancesByType.computeIfAbsent(instance.getClass(), type -> new ArrayList<>()).add(instance);
+        }
+        instancesByType.forEach((type, instancesOfType) -> {
+            BeanMembersInjector<Object> membersInjector = membersInjector(type);
+            membersInjector.injectAll(instancesOfType);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
     @Override
     public <T> MembersInjector<T> getMembersInjector(TypeLiteral<T> typeLiteral) {
-        return applicationContext::inject;
+        Objects.requireNonNull(typeLiteral, "Type cannot be null");
+        return getMembersInjector((Class<T>) typeLiteral.getRawType());
     }
 
     @Override
     public <T> MembersInjector<T> getMembersInjector(Class<T> type) {
-        return applicationContext::inject;
+        Objects.requireNonNull(type, "Type cannot be null");
+        return membersInjector(type);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> BeanMembersInjector<T> membersInjector(Class<?> type) {
+        return (BeanMembersInjector<T>) membersInjectors.computeIfAbsent(type, t -> new BeanMembersInjector<>(applicationContext, bindingRegistry, t));
     }
 
     @Override
     public Map<Key<?>, Binding<?>> getBindings() {
-        return Map.of();
+        return bindingRegistry.getBindings();
     }
 
     @Override
     public Map<Key<?>, Binding<?>> getAllBindings() {
-        return Map.of();
+        // beans that are not bound by a module are not tracked
+        return bindingRegistry.getBindings();
     }
 
     @Override
     public <T> Binding<T> getBinding(Key<T> key) {
-        throw new UnsupportedOperationException("Method getBinding is not supported");
+        Binding<T> binding = getExistingBinding(key);
+        if (binding == null) {
+            throw new com.google.inject.ConfigurationException(List.of(
+                new Message("No implementation for " + key + " was bound.")
+            ));
+        }
+        return binding;
     }
 
     @Override
     public <T> Binding<T> getBinding(Class<T> type) {
-        throw new UnsupportedOperationException("Method getBinding is not supported");
+        return getBinding(Key.get(type));
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public <T> Binding<T> getExistingBinding(Key<T> key) {
-        throw new UnsupportedOperationException("Method getExistingBinding is not supported");
+        Objects.requireNonNull(key, "Key cannot be null");
+        Binding<T> binding = bindingRegistry.findBinding(key);
+        if (binding != null) {
+            return binding;
+        }
+        // a bean that is not bound by a module
+        BeanDefinition<T> definition = applicationContext.findBeanDefinition(
+            (Argument<T>) Argument.of(key.getTypeLiteral().getType()),
+            toQualifier(key)
+        ).orElse(null);
+        if (definition == null) {
+            return null;
+        }
+        MicronautBinding<T> beanBinding = new MicronautBinding<>(
+            key,
+            definition,
+            applicationContext,
+            definition.isSingleton() ? Scopes.SINGLETON : null,
+            definition.getScope().orElse(null)
+        );
+        beanBinding.setDefinition(definition);
+        return beanBinding;
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public <T> List<Binding<T>> findBindingsByType(TypeLiteral<T> type) {
-        return List.of();
+        List<Binding<T>> bindings = new ArrayList<>();
+        for (Binding<?> binding : bindingRegistry.getBindings().values()) {
+            if (binding.getKey().getTypeLiteral().equals(type)) {
+                bindings.add((Binding<T>) binding);
+            }
+        }
+        return bindings;
     }
 
     @Override
     public <T> Provider<T> getProvider(Key<T> key) {
         Objects.requireNonNull(key, "Key cannot be null");
-        Argument<T> argument = (Argument<T>) Argument.of(key.getTypeLiteral().getType());
-        Qualifier<T> qualifier = toQualifier(key);
-        return () -> applicationContext.getBean(argument, qualifier);
+        return resolve(key);
     }
 
     @Override
     public <T> Provider<T> getProvider(Class<T> type) {
-        return () -> applicationContext.getBean(type);
+        Objects.requireNonNull(type, "Type cannot be null");
+        return resolve(type);
     }
 
     @Override
     public <T> T getInstance(Key<T> key) {
-        Objects.requireNonNull(key, "Key cannot be null");
-        Argument<T> argument = (Argument<T>) Argument.of(key.getTypeLiteral().getType());
-        Qualifier<T> qualifier = toQualifier(key);
-        return applicationContext.getBean(argument, qualifier);
+        return getProvider(key).get();
+    }
+
+    @Override
+    public <T> T getInstance(Class<T> type) {
+        return getProvider(type).get();
     }
 
-    private static <T> Qualifier<T> toQualifier(Key<T> key) {
+    /**
+     * Resolves a provider for the given key, which is either a {@link Key} or a {@link Class}.
+     * Providers are cached until a Guice binding is registered.
+     *
+     * @param cacheKey The key
+     * @return The provider
+     * @param <T> The bean type
+     */
+    @SuppressWarnings("unchecked")
+    private <T> Provider<T> resolve(Object cacheKey) {
+        DispatchedProvider<T> dispatched = (DispatchedProvider<T>) dispatchTable.get(cacheKey);
+        if (dispatched != null) {
+            return dispatched;
+        }
+        int generation = bindingRegistry.generation();
+        CachedProvider<T> cached = (CachedProvider<T>) providers.get(cacheKey);
+        if (cached != null && cached.generation == generation) {
+            return cached;
+        }
+        CachedProvider<T> provider = resolveDefinition(cacheKey, generation, false);
+        providers.put(cacheKey, provider);
+        return provider;
+    }
+
+    /**
+     * Translates the given key into the argument and qualifier of the application context and finds the definition
+     * of the Guice binding of a qualified key, without consulting the caches.
+     *
+     * @param cacheKey The key
+     * @param generation The current generation
+     * @param resolveBean Whether to also resolve the bean definition of a key without a Guice binding
+     * @return The provider
+     * @param <T> The bean type
+     */
+    @SuppressWarnings("unchecked")
+    private <T> CachedProvider<T> resolveDefinition(Object cacheKey, int generation, boolean resolveBean) {
+        Argument<T> argument;
+        Qualifier<T> qualifier;
+        BeanDefinition<T> binding = null;
+        if (cacheKey instanceof Key<?> key) {
+            argument = (Argument<T>) Argument.of(key.getTypeLiteral().getType());
+            qualifier = toQualifier((Key<T>) key);
+            binding = bindingRegistry.findQualifiedBinding((Key<T>) key);
+        } else {
+            argument = Argument.of((Class<T>) cacheKey);
+            qualifier = null;
+        }
+        if (binding == null && resolveBean) {
+            try {
+                binding = applicationContext.findBeanDefinition(argument, qualifier).orElse(null);
+            } catch (NonUniqueBeanException e) {
+                // reported by the application context on provision
+            }
+        }
+        return new CachedProvider<>(cacheKey, argument, qualifier, binding, generation);
+    }
+
+    @Nullable
+    static <T> Qualifier<T> toQualifier(Key<T> key) {
         Class<? extends Annotation> annotationType = key.getAnnotationType();
         Qualifier<T> qualifier = null;
         Annotation annotation = key.getAnnotation();
@@ -132,11 +309,6 @@ final class MicronautInjector
         return qualifier;
     }
 
-    @Override
-    public <T> T getInstance(Class<T> type) {
-        return applicationContext.getBean(type);
-    }
-
     @Override
     public Injector getParent() {
         return null;
@@ -144,12 +316,12 @@ final class MicronautInjector
 
     @Override
     public Injector createChildInjector(Iterable<? extends Module> modules) {
-        throw new UnsupportedOperationException("Method createChildInjector is not supported");
+        return ChildInjector.create(this, applicationContext, modules);
     }
 
     @Override
     public Injector createChildInjector(Module... modules) {
-        throw new UnsupportedOperationException("Method createChildInjector is not supported");
+        return createChildInjector(List.of(modules));
     }
 
     @Override
@@ -171,4 +343,76 @@ final class MicronautInjector
     public Map<TypeLiteral<?>, List<InjectionPoint>> getAllMembersInjectorInjectionPoints() {
         return Map.of();
     }
+
+    /**
+     * A provider of a key translated for the application context. Providers that outlive the registration of a Guice
+     * binding resolve the key again.
+     *
+     * <p>Unless the key is bound by a qualified Guice binding, the bean is looked up by argument and qualifier. The
+     * application context caches the candidates of a lookup and discards them whenever a bean definition or singleton is
+     * registered, including registrations that do not go through the {@link GuiceBindingRegistry}.</p>
+     *
+     * @param <T> The bean type
+     */
+    private final class CachedProvider<T> implements Provider<T> {
+        private final Object cacheKey;
+        private final Argument<T> argument;
+        @Nullable
+        private final Qualifier<T> qualifier;
+        // the definition of the Guice binding, or of the bean of a dispatched key
+        @Nullable
+        private final BeanDefinition<T> binding;
+        private final int generation;
+
+        CachedProvider(Object cacheKey, Argument<T> argument, @Nullable Qualifier<T> qualifier, @Nullable BeanDefinition<T> binding, int generation) {
+            this.cacheKey = cacheKey;
+            this.argument = argument;
+            this.qualifier = qualifier;
+            this.binding = binding;
+            this.generation = generation;
+        }
+
+        @Override
+        public T get() {
+            if (generation != bindingRegistry.generation()) {
+                return MicronautInjector.this.<T>resolve(cacheKey).get();
+            }
+            return provide();
+        }
+
+        T provide() {
+            if (binding != null) {
+                return applicationContext.getBean(binding);
+            }
+            return applicationContext.getBean(argument, qualifier);
+        }
+    }
+
+    /**
+     * The provider of a key known at compilation time. The key is resolved to its bean definition when the injector is
+     * created, so that provisions create the bean from the definition without resolving candidates. The definition is
+     * resolved again whenever Guice bindings were registered since, like the keys of the bounded cache.
+     *
+     * @param <T> The bean type
+     */
+    private final class DispatchedProvider<T> implements Provider<T> {
+        private final Key<T> key;
+        private volatile CachedProvider<T> target;
+
+        DispatchedProvider(Key<T> key) {
+            this.key = key;
+            this.target = resolveDefinition(key, bindingRegistry.generation(), true);
+        }
+
+        @Override
+        public T get() {
+            CachedProvider<T> provider = target;
+            int generation = bindingRegistry.generation();
+            if (provider.generation != generation) {
+                provider = resolveDefinition(key, generation, true);
+                target = provider;
+            }
+            return provider.provide();
+        }
+    }
 }
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guice;
+
+import com.google.inject.Binding;
+import com.google.inject.spi.ProvisionListener;
+import io.micronaut.core.annotation.Internal;
+import java.util.function.Supplier;
+
+/**
+ * Notifies the {@link ProvisionListener}s of a binding of a single provision.
+ * Listeners that do not call {@link #provision()} themselves are followed by the next listener.
+ *
+ * @param <T> The bound type
+ */
+@Internal
+final class ProvisionListenerInvocation<T> extends ProvisionListener.ProvisionInvocation<T> {
+    private final Binding<T> binding;
+    private final Supplier<T> supplier;
+    private final ProvisionListener[] listeners;
+    private int index = -1;
+    private T result;
+
+    ProvisionListenerInvocation(Binding<T> binding, Supplier<T> supplier, ProvisionListener[] listeners) {
+        this.binding = binding;
+        this.supplier = supplier;
+        this.listeners = listeners;
+    }
+
+    @Override
+    public Binding<T> getBinding() {
+        return binding;
+    }
+
+    @Override
+    public T provision() {
+        index++;
+        if (index == listeners.length) {
+            result = supplier.get();
+        } else if (index < listeners.length) {
+            int current = index;
+            listeners[index].onProvision(this);
+            if (current == index) {
+                // the listener did not provision
+                provision();
+            }
+        } else {
+            throw new IllegalStateException("Already provisioned in this listener.");
+        }
+        return result;
+    }
+}
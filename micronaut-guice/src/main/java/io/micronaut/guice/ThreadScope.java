@@ -0,0 +1,197 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.guice;
+
+import com.google.inject.Key;
+import com.google.inject.OutOfScopeException;
+import com.google.inject.Provider;
+import com.google.inject.Scope;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.guice.annotation.ThreadScoped;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The Guice {@link Scope} of {@link ThreadScoped} bindings, which can also be bound to other scope annotations with
+ * {@code bindScope(MyScoped.class, ThreadScope.INSTANCE)}.
+ *
+ * <p>Code running within {@link #run(Runnable)} or {@link #call(Callable)} gets its own instances that are released
+ * once the task completes. On JDK versions that provide {@code java.lang.ScopedValue} the instances are bound to a scoped
+ * value, which threads forked within the task share, otherwise to a {@link ThreadLocal} that is cleared when the task
+ * completes. Thread scoped instances cannot be obtained outside of these methods, so no instance outlives its task
+ * on pooled or virtual threads.</p>
+ */
+public final class ThreadScope implements Scope {
+    /**
+     * The thread scope.
+     */
+    public static final ThreadScope INSTANCE = new ThreadScope();
+
+    private static final ThreadLocal<Map<Key<?>, Object>> THREAD_INSTANCES = new ThreadLocal<>();
+    private static final Object SCOPED_VALUE;
+    private static final MethodHandle SCOPED_VALUE_WHERE;
+    private static final MethodHandle SCOPED_VALUE_IS_BOUND;
+    private static final MethodHandle SCOPED_VALUE_GET;
+    private static final MethodHandle CARRIER_RUN;
+
+    static {
+        Object scopedValue = null;
+        MethodHandle where = null;
+        MethodHandle isBound = null;
+        MethodHandle get = null;
+        MethodHandle run = null;
+        try {
+            Class<?> scopedValueType = Class.forName("java.lang.ScopedValue");
+            Class<?> carrierType = Class.forName("java.lang.ScopedValue$Carrier");
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            scopedValue = lookup.findStatic(scopedValueType, "newInstance", MethodType.methodType(scopedValueType)).invoke();
+            where = lookup.findStatic(scopedValueType, "where", MethodType.methodType(carrierType, scopedValueType, Object.class));
+            isBound = lookup.findVirtual(scopedValueType, "isBound", MethodType.methodType(boolean.class));
+            get = lookup.findVirtual(scopedValueType, "get", MethodType.methodType(Object.class));
+            run = lookup.findVirtual(carrierType, "run", MethodType.methodType(void.class, Runnable.class));
+            // preview APIs fail on first use when preview features are not enabled
+            run.invoke(where.invoke(scopedValue, Map.of()), (Runnable) () -> { });
+        } catch (Throwable e) {
+            scopedValue = null;
+        }
+        SCOPED_VALUE = scopedValue;
+        SCOPED_VALUE_WHERE = where;
+        SCOPED_VALUE_IS_BOUND = isBound;
+        SCOPED_VALUE_GET = get;
+        CARRIER_RUN = run;
+    }
+
+    private ThreadScope() {
+    }
+
+    /**
+     * Runs the given task with its own thread scoped instances.
+     *
+     * @param task The task
+     */
+    public static void run(Runnable task) {
+        Objects.requireNonNull(task, "Task cannot be null");
+        // concurrent since the threads forked within a scoped value share it
+        Map<Key<?>, Object> instances = new ConcurrentHashMap<>();
+        if (SCOPED_VALUE != null) {
+            try {
+                CARRIER_RUN.invoke(SCOPED_VALUE_WHERE.invoke(SCOPED_VALUE, instances), task);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("Failed to enter the thread scope", e);
+            }
+        } else {
+            Map<Key<?>, Object> previous = THREAD_INSTANCES.get();
+            THREAD_INSTANCES.set(instances);
+            try {
+                task.run();
+            } finally {
+                if (previous != null) {
+                    THREAD_INSTANCES.set(previous);
+                } else {
+                    THREAD_INSTANCES.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Calls the given task with its own thread scoped instances.
+     *
+     * @param task The task
+     * @param <V> The result type
+     * @return The result of the task
+     * @throws Exception If the task fails
+     */
+    @SuppressWarnings("unchecked")
+    public static <V> V call(Callable<V> task) throws Exception {
+        Objects.requireNonNull(task, "Task cannot be null");
+        Object[] result = new Object[1];
+        Exception[] failure = new Exception[1];
+        run(() -> {
+            try {
+                result[0] = task.call();
+            } catch (Exception e) {
+                failure[0] = e;
+            }
+        });
+        if (failure[0] != null) {
+            throw failure[0];
+        }
+        return (V) result[0];
+    }
+
+    /**
+     * @return Whether the instances are bound to a {@code java.lang.ScopedValue}
+     */
+    public static boolean isScopedValueSupported() {
+        return SCOPED_VALUE != null;
+    }
+
+    @Override
+    public <T> Provider<T> scope(Key<T> key, Provider<T> unscoped) {
+        return () -> {
+            Map<Key<?>, Object> instances = instances();
+            if (instances == null) {
+                throw new OutOfScopeException("Cannot access " + key + " outside of ThreadScope.run(..) or ThreadScope.call(..)");
+            }
+            @SuppressWarnings("unchecked")
+            T instance = (T) instances.get(key);
+            if (instance == null) {
+                // not computeIfAbsent since creating the instance may create other thread scoped instances
+                instance = unscoped.get();
+                if (instance != null) {
+                    @SuppressWarnings("unchecked")
+                    T existing = (T) instances.putIfAbsent(key, instance);
+                    if (existing != null) {
+                        instance = existing;
+                    }
+                }
+            }
+            return instance;
+        };
+    }
+
+    /**
+     * @return The instances of the current task or {@code null} outside of a task
+     */
+    @SuppressWarnings("unchecked")
+    private static @Nullable Map<Key<?>, Object> instances() {
+        if (SCOPED_VALUE != null) {
+            try {
+                if ((boolean) SCOPED_VALUE_IS_BOUND.invoke(SCOPED_VALUE)) {
+                    return (Map<Key<?>, Object>) SCOPED_VALUE_GET.invoke(SCOPED_VALUE);
+                }
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("Failed to access the thread scope", e);
+            }
+        }
+        return THREAD_INSTANCES.get();
+    }
+
+    @Override
+    public String toString() {
+        return "ThreadScope";
+    }
+}
@@ -2,6 +2,8 @@ package io.micronaut.guice.doc.examples.bindings.annotations;
 
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 
+import com.google.inject.Injector;
+import com.google.inject.Key;
 import io.micronaut.context.annotation.Import;
 import io.micronaut.guice.annotation.Guice;
 import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
@@ -20,4 +22,10 @@ class BindingAnnotationTest {
         assertInstanceOf(CheckoutCreditCardProcessor.class, checkoutProcessor);
         assertInstanceOf(PayPalCreditCardProcessor.class, paypalProcessor);
     }
+
+    @Test
+    void testInjectorWithQualifiers(Injector injector) {
+        assertInstanceOf(PayPalCreditCardProcessor.class, injector.getInstance(Key.get(CreditCardProcessor.class, PayPal.class)));
+        assertInstanceOf(CheckoutCreditCardProcessor.class, injector.getInstance(Key.get(CreditCardProcessor.class, GoogleCheckout.class)));
+    }
 }
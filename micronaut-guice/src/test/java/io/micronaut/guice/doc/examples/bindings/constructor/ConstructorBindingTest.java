@@ -0,0 +1,62 @@
+package io.micronaut.guice.doc.examples.bindings.constructor;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.Provider;
+import com.google.inject.name.Named;
+import com.google.inject.name.Names;
+import io.micronaut.guice.annotation.Guice;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Singleton;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+@MicronautTest(startApplication = false, environments = "constructor")
+@Guice(modules = ConstructorBindingModule.class, classes = Fuel.class, environments = "constructor")
+class ConstructorBindingTest {
+    @Test
+    void testConstructorBinding(Injector injector) {
+        Engine engine = injector.getInstance(Engine.class);
+        Assertions.assertEquals("V8", engine.name());
+        Assertions.assertSame(injector.getInstance(Fuel.class), engine.fuel().get());
+        Assertions.assertNotSame(engine, injector.getInstance(Engine.class));
+    }
+
+    @Test
+    void testConstructorBindingInChildInjector(Injector injector) {
+        Injector child = injector.createChildInjector(new AbstractModule() {
+            @Override
+            protected void configure() {
+                bind(Key.get(String.class, Names.named("engine"))).toInstance("V12");
+                bind(Engine.class).annotatedWith(Names.named("child")).toConstructor(Engine.CONSTRUCTOR);
+            }
+        });
+        Engine engine = child.getInstance(Key.get(Engine.class, Names.named("child")));
+        Assertions.assertEquals("V12", engine.name());
+    }
+}
+
+class ConstructorBindingModule extends AbstractModule {
+    @Override
+    protected void configure() {
+        bind(Key.get(String.class, Names.named("engine"))).toInstance("V8");
+        bind(Engine.class).toConstructor(Engine.CONSTRUCTOR);
+    }
+}
+
+@Singleton
+class Fuel {
+}
+
+record Engine(@Named("engine") String name, Provider<Fuel> fuel) {
+    static final java.lang.reflect.Constructor<Engine> CONSTRUCTOR;
+
+    static {
+        try {
+            CONSTRUCTOR = Engine.class.getDeclaredConstructor(String.class, Provider.class);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package io.micronaut.guice.doc.examples.bindings.eager;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.name.Named;
+import com.google.inject.name.Names;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.guice.annotation.Guice;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@MicronautTest(startApplication = false, environments = ParallelEagerSingletonTest.ENV)
+@Property(name = "guice.parallel-eager-singletons", value = StringUtils.TRUE)
+@Guice(
+    modules = StoreModule.class,
+    classes = { Database.class, Repository.class, ReportService.class, Reporter.class, Indexer.class, Crawler.class },
+    environments = ParallelEagerSingletonTest.ENV
+)
+class ParallelEagerSingletonTest {
+    public static final String ENV = "eager";
+    static final List<Class<?>> CREATED = Collections.synchronizedList(new ArrayList<>());
+    static final CountDownLatch WORKERS = new CountDownLatch(2);
+    static final Map<Class<?>, Thread> WORKER_THREADS = new ConcurrentHashMap<>();
+    static final Map<Class<?>, Boolean> WORKER_MET = new ConcurrentHashMap<>();
+
+    @Test
+    void testIndependentSingletonsCreatedConcurrently() {
+        // each worker waits in its constructor until the other one is being created
+        assertEquals(Map.of(Indexer.class, true, Crawler.class, true), WORKER_MET);
+        assertNotEquals(WORKER_THREADS.get(Indexer.class), WORKER_THREADS.get(Crawler.class));
+    }
+
+    @Test
+    void testEagerSingletonsCreatedInDependencyOrder(Injector injector) {
+        List<Class<?>> created = List.copyOf(CREATED);
+        assertTrue(created.containsAll(List.of(Database.class, Repository.class, Reporter.class)));
+        // injected into a field after the repository is constructed
+        assertTrue(created.indexOf(Database.class) < created.indexOf(Repository.class));
+        // injected into a field of a bean that is not an eager singleton
+        assertTrue(created.indexOf(Database.class) < created.indexOf(Reporter.class));
+
+        Repository repository = (Repository) injector.getInstance(Key.get(Store.class, Names.named("repo")));
+        assertSame(injector.getInstance(Key.get(Store.class, Names.named("db"))), repository.database);
+        assertSame(repository, injector.getInstance(Key.get(Store.class, Names.named("repo"))));
+    }
+}
+
+class StoreModule extends AbstractModule {
+    @Override
+    protected void configure() {
+        bind(Store.class).annotatedWith(Names.named("repo")).to(Repository.class).asEagerSingleton();
+        bind(Store.class).annotatedWith(Names.named("db")).to(Database.class).asEagerSingleton();
+        bind(Reporter.class).asEagerSingleton();
+        bind(Indexer.class).asEagerSingleton();
+        bind(Crawler.class).asEagerSingleton();
+    }
+}
+
+interface Store {
+}
+
+class Database implements Store {
+    Database() {
+        try {
+            // slow to build, so the beans injecting it would be constructed first if they did not wait
+            Thread.sleep(50);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        ParallelEagerSingletonTest.CREATED.add(Database.class);
+    }
+}
+
+class Repository implements Store {
+    @Inject
+    @Named("db")
+    Store database;
+
+    Repository() {
+        ParallelEagerSingletonTest.CREATED.add(Repository.class);
+    }
+}
+
+class ReportService {
+    final Store database;
+
+    ReportService(@Named("db") Store database) {
+        this.database = database;
+    }
+}
+
+class Reporter {
+    @Inject
+    ReportService reportService;
+
+    Reporter() {
+        ParallelEagerSingletonTest.CREATED.add(Reporter.class);
+    }
+}
+
+abstract class Worker {
+    Worker() {
+        ParallelEagerSingletonTest.WORKER_THREADS.put(getClass(), Thread.currentThread());
+        ParallelEagerSingletonTest.WORKERS.countDown();
+        try {
+            ParallelEagerSingletonTest.WORKER_MET.put(getClass(), ParallelEagerSingletonTest.WORKERS.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            ParallelEagerSingletonTest.WORKER_MET.put(getClass(), false);
+        }
+    }
+}
+
+class Indexer extends Worker {
+}
+
+class Crawler extends Worker {
+}
@@ -0,0 +1,67 @@
+package io.micronaut.guice.doc.examples.bindings.eager;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Injector;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.guice.annotation.Guice;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@MicronautTest(startApplication = false, environments = ParallelStartupTest.ENV)
+@Property(name = "guice.parallel-configuration", value = StringUtils.TRUE)
+@Property(name = "guice.parallel-eager-singletons", value = StringUtils.TRUE)
+@Guice(
+    modules = { CatalogModule.class, PricingModule.class },
+    classes = { Catalog.class, Pricing.class },
+    environments = ParallelStartupTest.ENV
+)
+class ParallelStartupTest {
+    public static final String ENV = "parallelstartup";
+
+    @Test
+    void testSingletonsUsingCommonPoolCreatedWithParallelConfiguration(Injector injector) {
+        Catalog catalog = injector.getInstance(Catalog.class);
+        Pricing pricing = injector.getInstance(Pricing.class);
+        assertEquals(IntStream.range(0, 10_000).sum(), catalog.size);
+        assertEquals(IntStream.range(0, 10_000).sum(), pricing.total);
+        assertSame(catalog, injector.getInstance(Catalog.class));
+    }
+}
+
+class CatalogModule extends AbstractModule {
+    @Override
+    protected void configure() {
+        bind(Catalog.class).asEagerSingleton();
+    }
+}
+
+class PricingModule extends AbstractModule {
+    @Override
+    protected void configure() {
+        bind(Pricing.class).asEagerSingleton();
+    }
+}
+
+class Catalog {
+    final int size;
+
+    Catalog() {
+        // fans out on the common pool while the injector is created
+        size = IntStream.range(0, 10_000).parallel().sum();
+    }
+}
+
+class Pricing {
+    final int total;
+
+    Pricing() {
+        total = CompletableFuture.supplyAsync(() -> IntStream.range(0, 10_000).sum(), ForkJoinPool.commonPool()).join();
+    }
+}
@@ -0,0 +1,105 @@
+package io.micronaut.guice.doc.examples.bindings.injection;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+import com.google.inject.MembersInjector;
+import com.google.inject.TypeLiteral;
+import com.google.inject.name.Named;
+import com.google.inject.name.Names;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.guice.BatchMembersInjector;
+import io.micronaut.guice.annotation.Guice;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@MicronautTest(startApplication = false, environments = RequestInjectionTest.ENV)
+@Property(name = "guice.parallel-injection", value = StringUtils.TRUE)
+@Guice(modules = HandlerModule.class, classes = { Handler.class, Listener.class }, environments = RequestInjectionTest.ENV)
+class RequestInjectionTest {
+    public static final String ENV = "injection";
+
+    @Test
+    void testInstancesInjectedOnceByIdentity() {
+        assertEquals("handler", HandlerModule.FIRST.name);
+        assertEquals(1, HandlerModule.FIRST.injections);
+        // equal, but a distinct instance
+        assertEquals("handler", HandlerModule.SECOND.name);
+        assertEquals(1, HandlerModule.SECOND.injections);
+        assertEquals("handler", HandlerModule.LISTENER.name);
+    }
+
+    @Test
+    void testMembersInjectorResolvedOnce(Injector injector) {
+        MembersInjector<Handler> membersInjector = injector.getMembersInjector(Handler.class);
+        assertSame(membersInjector, injector.getMembersInjector(TypeLiteral.get(Handler.class)));
+        Handler handler = new Handler();
+        membersInjector.injectMembers(handler);
+        assertEquals("handler", handler.name);
+        assertEquals(1, handler.injections);
+
+        Listener listener = new Listener();
+        injector.injectMembers(listener);
+        assertEquals("handler", listener.name);
+    }
+
+    @Test
+    void testBatchInjection(Injector injector) {
+        List<Handler> handlers = IntStream.range(0, 100).mapToObj(i -> new Handler()).toList();
+        List<Listener> listeners = IntStream.range(0, 100).mapToObj(i -> new Listener()).toList();
+        BatchMembersInjector batchInjector = (BatchMembersInjector) injector;
+        batchInjector.injectMembers(handlers);
+        batchInjector.injectMembers(listeners.parallelStream());
+        assertTrue(handlers.stream().allMatch(handler -> handler.injections == 1 && "handler".equals(handler.name)));
+        assertTrue(listeners.stream().allMatch(listener -> "handler".equals(listener.name)));
+    }
+}
+
+class HandlerModule extends AbstractModule {
+    static final Handler FIRST = new Handler();
+    static final Handler SECOND = new Handler();
+    static final Listener LISTENER = new Listener();
+
+    @Override
+    protected void configure() {
+        bind(String.class).annotatedWith(Names.named("handler")).toInstance("handler");
+        requestInjection(FIRST);
+        requestInjection(FIRST);
+        requestInjection(SECOND);
+        requestInjection(LISTENER);
+    }
+}
+
+class Handler {
+    String name;
+    int injections;
+
+    @Inject
+    void setName(@Named("handler") String name) {
+        this.name = name;
+        injections++;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Handler;
+    }
+
+    @Override
+    public int hashCode() {
+        return Handler.class.hashCode();
+    }
+}
+
+class Listener {
+    @Inject
+    @Named("handler")
+    String name;
+}
@@ -1,15 +1,22 @@
 package io.micronaut.guice.doc.examples.bindings.injector;
 
 import com.google.inject.AbstractModule;
+import com.google.inject.ConfigurationException;
 import com.google.inject.Injector;
 import com.google.inject.Key;
+import com.google.inject.Provider;
 import com.google.inject.Singleton;
 import com.google.inject.TypeLiteral;
+import com.google.inject.name.Names;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.exceptions.NoSuchBeanException;
 import io.micronaut.guice.annotation.Guice;
 import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.Set;
+
 @MicronautTest(startApplication = false, environments = "injector")
 @Guice(modules = FooModule.class, environments = "injector")
 class InjectorTest {
@@ -29,6 +36,77 @@ class InjectorTest {
         Assertions.assertNotNull(v6);
         Assertions.assertInstanceOf(V6.class, v6.cylinder());
     }
+
+    @Test
+    void testBindKeyWithName(Injector injector) {
+        Assertions.assertEquals("V8", injector.getInstance(Key.get(String.class, Names.named("engine"))));
+        Assertions.assertEquals("V6", injector.getInstance(Key.get(String.class, Names.named("fallback"))));
+    }
+
+    @Test
+    void testProviderResolvedOnce(Injector injector) {
+        Key<Engine<V8>> key = Key.get(new TypeLiteral<Engine<V8>>() {
+        });
+        Assertions.assertSame(injector.getProvider(key), injector.getProvider(key));
+        Assertions.assertSame(injector.getProvider(Foo.class), injector.getProvider(Foo.class));
+        Assertions.assertSame(injector.getInstance(Foo.class), injector.getProvider(Foo.class).get());
+    }
+
+    @Test
+    void testProviderSeesLateRegistrations(Injector injector, ApplicationContext applicationContext) {
+        Provider<Late> provider = injector.getProvider(Late.class);
+        Assertions.assertThrows(NoSuchBeanException.class, provider::get);
+        Late late = new Late();
+        applicationContext.registerSingleton(Late.class, late);
+        Assertions.assertSame(late, provider.get());
+        Assertions.assertSame(late, injector.getInstance(Late.class));
+    }
+
+    @Test
+    void testBindings(Injector injector) {
+        Key<String> engine = Key.get(String.class, Names.named("engine"));
+        Assertions.assertTrue(injector.getBindings().containsKey(engine));
+        Assertions.assertEquals("V8", injector.getBinding(engine).getProvider().get());
+        Assertions.assertEquals(2, injector.findBindingsByType(TypeLiteral.get(String.class)).size());
+        Assertions.assertNotNull(injector.getExistingBinding(Key.get(Foo.class)));
+        Assertions.assertNull(injector.getExistingBinding(Key.get(String.class, Names.named("missing"))));
+        Assertions.assertThrows(ConfigurationException.class, () -> injector.getBinding(Key.get(String.class, Names.named("missing"))));
+
+        Injector child = injector.createChildInjector(new AbstractModule() {
+            @Override
+            protected void configure() {
+                bind(engine).toInstance("V12");
+            }
+        });
+        Assertions.assertEquals(Set.of(engine), child.getBindings().keySet());
+        Assertions.assertEquals("V12", child.getBinding(engine).getProvider().get());
+        Assertions.assertEquals("V12", child.getAllBindings().get(engine).getProvider().get());
+        Assertions.assertEquals(2, child.findBindingsByType(TypeLiteral.get(String.class)).size());
+    }
+
+    @Test
+    void testChildInjector(Injector injector) {
+        Key<String> engine = Key.get(String.class, Names.named("engine"));
+        Injector child = injector.createChildInjector(new AbstractModule() {
+            @Override
+            protected void configure() {
+                bind(engine).toInstance("V12");
+            }
+        });
+        Assertions.assertSame(injector, child.getParent());
+        Assertions.assertEquals("V12", child.getInstance(engine));
+        Assertions.assertEquals("V6", child.getInstance(Key.get(String.class, Names.named("fallback"))));
+        Assertions.assertSame(injector.getInstance(Foo.class), child.getInstance(Foo.class));
+        Assertions.assertEquals("V8", injector.getInstance(engine));
+
+        Injector grandChild = child.createChildInjector(new AbstractModule() {
+            @Override
+            protected void configure() {
+                bind(Key.get(String.class, Names.named("fallback"))).to(engine);
+            }
+        });
+        Assertions.assertEquals("V12", grandChild.getInstance(Key.get(String.class, Names.named("fallback"))));
+    }
 }
 
 class FooModule extends AbstractModule {
@@ -36,6 +114,8 @@ class FooModule extends AbstractModule {
     protected void configure() {
         bind(new TypeLiteral<Engine<V8>>() {}).toInstance(new Engine<>(new V8()));
         bind(new TypeLiteral<Engine<V6>>() {}).toInstance(new Engine<>(new V6()));
+        bind(Key.get(String.class, Names.named("engine"))).toInstance("V8");
+        bind(Key.get(String.class, Names.named("fallback"))).toInstance("V6");
     }
 }
 @Singleton
@@ -47,3 +127,4 @@ record Engine<T>(T cylinder) {
 
 class V8 {}
 class V6 {}
+class Late {}
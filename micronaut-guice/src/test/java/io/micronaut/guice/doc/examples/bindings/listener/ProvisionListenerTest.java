@@ -0,0 +1,76 @@
+package io.micronaut.guice.doc.examples.bindings.listener;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Binding;
+import com.google.inject.Key;
+import com.google.inject.Provider;
+import com.google.inject.matcher.AbstractMatcher;
+import com.google.inject.name.Names;
+import com.google.inject.spi.ProvisionListener;
+import io.micronaut.guice.annotation.Guice;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@MicronautTest(startApplication = false, environments = ProvisionListenerTest.ENV)
+@Guice(modules = ListenerModule.class, environments = ProvisionListenerTest.ENV)
+class ProvisionListenerTest {
+    public static final String ENV = "listener";
+
+    @Inject
+    Provider<Engine> engineProvider;
+
+    @Inject
+    @Named("unlistened")
+    String unlistened;
+
+    @Test
+    void testListenerNotifiedOnProvision() {
+        ListenerModule.PROVISIONED.clear();
+        Engine first = engineProvider.get();
+        Engine second = engineProvider.get();
+
+        assertEquals(List.of(Key.get(Engine.class), Key.get(Engine.class)), ListenerModule.PROVISIONED);
+        assertSame(first, ListenerModule.PROVISIONED_INSTANCES.get(0));
+        assertSame(second, ListenerModule.PROVISIONED_INSTANCES.get(1));
+        assertEquals(2, ListenerModule.MATCHED.size());
+    }
+}
+
+interface Engine {
+}
+
+class V8Engine implements Engine {
+}
+
+class ListenerModule extends AbstractModule {
+    static final List<Key<?>> PROVISIONED = new CopyOnWriteArrayList<>();
+    static final List<Object> PROVISIONED_INSTANCES = new CopyOnWriteArrayList<>();
+    static final List<Key<?>> MATCHED = new CopyOnWriteArrayList<>();
+
+    @Override
+    protected void configure() {
+        bind(Engine.class).toProvider((Provider<Engine>) V8Engine::new);
+        bind(String.class).annotatedWith(Names.named("unlistened")).toProvider((Provider<String>) () -> "unlistened");
+        bindListener(new AbstractMatcher<Binding<?>>() {
+            @Override
+            public boolean matches(Binding<?> binding) {
+                // evaluated once per binding
+                MATCHED.add(binding.getKey());
+                return binding.getKey().getTypeLiteral().getRawType() == Engine.class;
+            }
+        }, new ProvisionListener() {
+            @Override
+            public <T> void onProvision(ProvisionInvocation<T> provision) {
+                PROVISIONED.add(provision.getBinding().getKey());
+                PROVISIONED_INSTANCES.add(provision.provision());
+            }
+        });
+    }
+}
@@ -0,0 +1,66 @@
+package io.micronaut.guice.doc.examples.bindings.map;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Inject;
+import com.google.inject.multibindings.MapBinder;
+import io.micronaut.guice.annotation.Guice;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+@MicronautTest(startApplication = false, environments = LazyMapBinderTest.ENV)
+@Guice(
+    modules = CodecModule.class,
+    classes = {JsonCodec.class, XmlCodec.class},
+    environments = LazyMapBinderTest.ENV
+)
+class LazyMapBinderTest {
+    public static final String ENV = "lazymap";
+    static final AtomicInteger CREATED = new AtomicInteger();
+
+    @Inject
+    Map<String, Codec> codecs;
+
+    @Test
+    void testValuesCreatedOnGet() {
+        Assertions.assertEquals(0, CREATED.get());
+        Assertions.assertEquals(List.of("json", "xml"), List.copyOf(codecs.keySet()));
+        Assertions.assertTrue(codecs.containsKey("xml"));
+        Assertions.assertEquals(0, CREATED.get());
+
+        Assertions.assertInstanceOf(JsonCodec.class, codecs.get("json"));
+        Assertions.assertEquals(1, CREATED.get());
+        Assertions.assertSame(codecs.get("json"), codecs.get("json"));
+        Assertions.assertEquals(1, CREATED.get());
+
+        Assertions.assertInstanceOf(XmlCodec.class, codecs.get("xml"));
+        Assertions.assertEquals(2, CREATED.get());
+    }
+}
+
+class CodecModule extends AbstractModule {
+    @Override
+    protected void configure() {
+        MapBinder<String, Codec> codecBinder = MapBinder.newMapBinder(binder(), String.class, Codec.class);
+        codecBinder.addBinding("json").to(JsonCodec.class);
+        codecBinder.addBinding("xml").to(XmlCodec.class);
+    }
+}
+
+interface Codec {
+}
+
+class JsonCodec implements Codec {
+    JsonCodec() {
+        LazyMapBinderTest.CREATED.incrementAndGet();
+    }
+}
+
+class XmlCodec implements Codec {
+    XmlCodec() {
+        LazyMapBinderTest.CREATED.incrementAndGet();
+    }
+}
@@ -2,15 +2,16 @@ package io.micronaut.guice.doc.examples.bindings.map;
 
 import com.google.inject.AbstractModule;
 import com.google.inject.Inject;
+import com.google.inject.Provider;
 import com.google.inject.multibindings.MapBinder;
 import com.google.inject.multibindings.Multibinder;
 import io.micronaut.guice.annotation.Guice;
 import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
 import java.net.URI;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import org.junit.jupiter.api.Assertions;
-import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
 @MicronautTest(startApplication = false, environments = "map")
@@ -19,17 +20,27 @@ import org.junit.jupiter.api.Test;
     classes = FlickrPhotoSummarizer.class,
     environments = "map"
 )
-@Disabled("Map binding not yet supported")
 public class MapBinderTest {
     @Inject
     Map<String, UriSummarizer> uriSummarizers;
 
+    @Inject
+    Map<String, Provider<UriSummarizer>> uriSummarizerProviders;
+
     @Test
     void testMultiBindings() {
         Assertions.assertNotNull(uriSummarizers);
         Assertions.assertEquals(2, uriSummarizers.size());
         Assertions.assertInstanceOf(FlickrPhotoSummarizer.class, uriSummarizers.get("flickr"));
         Assertions.assertInstanceOf(GooglePhotoSummarizer.class, uriSummarizers.get("google"));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> uriSummarizers.put("other", uri -> "other"));
+    }
+
+    @Test
+    void testProviderMapBindings() {
+        Assertions.assertEquals(List.of("flickr", "google"), List.copyOf(uriSummarizerProviders.keySet()));
+        Assertions.assertInstanceOf(FlickrPhotoSummarizer.class, uriSummarizerProviders.get("flickr").get());
+        Assertions.assertSame(uriSummarizerProviders.get("google").get(), uriSummarizerProviders.get("google").get());
     }
 }
 
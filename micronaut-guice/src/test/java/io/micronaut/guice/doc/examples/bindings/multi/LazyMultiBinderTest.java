@@ -0,0 +1,66 @@
+package io.micronaut.guice.doc.examples.bindings.multi;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Inject;
+import com.google.inject.multibindings.Multibinder;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.guice.annotation.Guice;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+@MicronautTest(startApplication = false, environments = LazyMultiBinderTest.ENV)
+@Property(name = "guice.lazy-multibindings", value = StringUtils.TRUE)
+@Guice(
+    modules = LazyPluginModule.class,
+    classes = {FirstPlugin.class, SecondPlugin.class},
+    environments = LazyMultiBinderTest.ENV
+)
+class LazyMultiBinderTest {
+    public static final String ENV = "lazymulti";
+    static final AtomicInteger CREATED = new AtomicInteger();
+
+    @Inject
+    Set<Plugin> plugins;
+
+    @Test
+    void testElementsCreatedOnFirstAccess() {
+        Assertions.assertEquals(0, CREATED.get());
+        Assertions.assertFalse(plugins.isEmpty());
+        Assertions.assertEquals(0, CREATED.get());
+
+        Assertions.assertEquals(2, plugins.size());
+        Assertions.assertEquals(2, CREATED.get());
+        Assertions.assertTrue(plugins.stream().anyMatch(p -> p instanceof FirstPlugin));
+        Assertions.assertTrue(plugins.stream().anyMatch(p -> p instanceof SecondPlugin));
+        Assertions.assertEquals(2, CREATED.get());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> plugins.add(new FirstPlugin()));
+    }
+}
+
+class LazyPluginModule extends AbstractModule {
+    @Override
+    protected void configure() {
+        Multibinder<Plugin> pluginBinder = Multibinder.newSetBinder(binder(), Plugin.class);
+        pluginBinder.addBinding().to(FirstPlugin.class);
+        pluginBinder.addBinding().to(SecondPlugin.class);
+    }
+}
+
+interface Plugin {
+}
+
+class FirstPlugin implements Plugin {
+    FirstPlugin() {
+        LazyMultiBinderTest.CREATED.incrementAndGet();
+    }
+}
+
+class SecondPlugin implements Plugin {
+    SecondPlugin() {
+        LazyMultiBinderTest.CREATED.incrementAndGet();
+    }
+}
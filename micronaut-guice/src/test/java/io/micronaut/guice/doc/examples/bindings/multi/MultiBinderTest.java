@@ -2,10 +2,14 @@ package io.micronaut.guice.doc.examples.bindings.multi;
 
 import com.google.inject.AbstractModule;
 import com.google.inject.Inject;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.Provider;
 import com.google.inject.multibindings.Multibinder;
 import io.micronaut.guice.annotation.Guice;
 import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
 import java.net.URI;
+import java.util.Collection;
 import java.util.Set;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -27,6 +31,15 @@ class MultiBinderTest {
         Assertions.assertTrue(uriSummarizers.stream().anyMatch(s -> s instanceof FlickrPhotoSummarizer));
         Assertions.assertTrue(uriSummarizers.stream().anyMatch(s -> s instanceof GooglePhotoSummarizer));
     }
+
+    @Test
+    void testProviderMultiBindings(Injector injector) {
+        Set<Provider<UriSummarizer>> providers = injector.getInstance(new Key<Set<Provider<UriSummarizer>>>() { });
+        Assertions.assertEquals(2, providers.size());
+        Collection<Provider<UriSummarizer>> collection = injector.getInstance(new Key<Collection<Provider<UriSummarizer>>>() { });
+        Assertions.assertEquals(2, collection.size());
+        Assertions.assertTrue(collection.stream().anyMatch(p -> p.get() instanceof FlickrPhotoSummarizer));
+    }
 }
 
 class FlickrPluginModule extends AbstractModule {
@@ -0,0 +1,51 @@
+package io.micronaut.guice.doc.examples.bindings.parallel;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.multibindings.Multibinder;
+import com.google.inject.name.Names;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.guice.annotation.Guice;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@MicronautTest(startApplication = false, environments = ParallelConfigurationTest.ENV)
+@Property(name = "guice.parallel-configuration", value = StringUtils.TRUE)
+@Guice(modules = { FirstModule.class, SecondModule.class }, environments = ParallelConfigurationTest.ENV)
+class ParallelConfigurationTest {
+    public static final String ENV = "parallel";
+
+    @Test
+    void testBindingsMergedInModuleOrder(Injector injector) {
+        assertEquals("first", injector.getInstance(Key.get(String.class, Names.named("first"))));
+        assertEquals("second", injector.getInstance(Key.get(String.class, Names.named("second"))));
+        Set<Integer> numbers = injector.getInstance(new Key<Set<Integer>>() { });
+        assertEquals(List.of(1, 2, 3, 4), List.copyOf(numbers));
+    }
+}
+
+class FirstModule extends AbstractModule {
+    @Override
+    protected void configure() {
+        bind(String.class).annotatedWith(Names.named("first")).toInstance("first");
+        Multibinder<Integer> numbers = Multibinder.newSetBinder(binder(), Integer.class);
+        numbers.addBinding().toInstance(1);
+        numbers.addBinding().toInstance(2);
+    }
+}
+
+class SecondModule extends AbstractModule {
+    @Override
+    protected void configure() {
+        bind(String.class).annotatedWith(Names.named("second")).toInstance("second");
+        Multibinder<Integer> numbers = Multibinder.newSetBinder(binder(), Integer.class);
+        numbers.addBinding().toInstance(3);
+        numbers.addBinding().toInstance(4);
+    }
+}
@@ -0,0 +1,46 @@
+package io.micronaut.guice.doc.examples.bindings.provider;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.Provider;
+import com.google.inject.name.Names;
+import io.micronaut.guice.annotation.Guice;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+@MicronautTest(startApplication = false, environments = "module-provider")
+@Guice(modules = GreetingModule.class, environments = "module-provider")
+class ModuleProviderTest {
+    @Test
+    void testProviderResolvedAfterBindingsRegistered(Injector injector) {
+        assertInstanceOf(IllegalStateException.class, GreetingModule.failure);
+        assertEquals("Hello late", injector.getInstance(Greeting.class).message());
+        assertEquals("late", GreetingModule.provider.get());
+    }
+}
+
+class GreetingModule extends AbstractModule {
+    static Provider<String> provider;
+    static RuntimeException failure;
+
+    @Override
+    protected void configure() {
+        bind(String.class).annotatedWith(Names.named("early")).toInstance("early");
+        Provider<String> name = getProvider(Key.get(String.class, Names.named("late")));
+        try {
+            name.get();
+        } catch (RuntimeException e) {
+            failure = e;
+        }
+        provider = name;
+        bind(String.class).annotatedWith(Names.named("late")).toInstance("late");
+        bind(Greeting.class).toProvider(() -> new Greeting("Hello " + name.get()));
+    }
+}
+
+record Greeting(String message) {
+}
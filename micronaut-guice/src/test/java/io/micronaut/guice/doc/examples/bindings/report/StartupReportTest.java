@@ -0,0 +1,47 @@
+package io.micronaut.guice.doc.examples.bindings.report;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.name.Names;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.guice.GuiceStartupReport;
+import io.micronaut.guice.annotation.Guice;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@MicronautTest(startApplication = false, environments = StartupReportTest.ENV)
+@Property(name = "guice.startup-report", value = StringUtils.TRUE)
+@Guice(modules = ReportingModule.class, environments = StartupReportTest.ENV)
+class StartupReportTest {
+    public static final String ENV = "report";
+
+    @Inject
+    GuiceStartupReport report;
+
+    @Test
+    void testModulesAndBindingsMeasured() {
+        assertTrue(report.getModules().stream().anyMatch(m -> m.name().equals(ReportingModule.class.getName()) && m.parent() == null));
+        assertTrue(report.getModules().stream().anyMatch(m -> m.name().equals(InstalledModule.class.getName())
+            && ReportingModule.class.getName().equals(m.parent())));
+        assertEquals(2, report.getBindings().size());
+    }
+}
+
+class ReportingModule extends AbstractModule {
+    @Override
+    protected void configure() {
+        bind(String.class).annotatedWith(Names.named("reporting")).toInstance("reporting");
+        install(new InstalledModule());
+    }
+}
+
+class InstalledModule extends AbstractModule {
+    @Override
+    protected void configure() {
+        bindConstant().annotatedWith(Names.named("installed")).to(1);
+    }
+}
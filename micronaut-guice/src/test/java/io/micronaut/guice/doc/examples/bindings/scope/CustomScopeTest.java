@@ -0,0 +1,171 @@
+package io.micronaut.guice.doc.examples.bindings.scope;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.BindingAnnotation;
+import com.google.inject.Key;
+import com.google.inject.OutOfScopeException;
+import com.google.inject.Provider;
+import com.google.inject.Scope;
+import com.google.inject.ScopeAnnotation;
+import com.google.inject.name.Names;
+import io.micronaut.context.annotation.Bean;
+import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.guice.annotation.Guice;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@MicronautTest(startApplication = false, environments = CustomScopeTest.ENV)
+@Guice(modules = BatchModule.class, environments = CustomScopeTest.ENV)
+class CustomScopeTest {
+    public static final String ENV = "scope";
+
+    @Inject
+    jakarta.inject.Provider<BatchJob> jobProvider;
+
+    @Inject
+    @Named("direct")
+    jakarta.inject.Provider<BatchJob> directJobProvider;
+
+    @Test
+    void testScopeAnnotation() {
+        BatchScope.enter();
+        BatchJob first;
+        try {
+            first = jobProvider.get();
+            assertSame(first, jobProvider.get());
+        } finally {
+            BatchScope.exit();
+        }
+        BatchScope.enter();
+        try {
+            assertNotSame(first, jobProvider.get());
+        } finally {
+            BatchScope.exit();
+        }
+        // the bean supplier fails outside of the scope
+        assertThrows(RuntimeException.class, () -> jobProvider.get());
+    }
+
+    @Inject
+    @Red
+    jakarta.inject.Provider<Report> redReport;
+
+    @Inject
+    @Blue
+    jakarta.inject.Provider<Report> blueReport;
+
+    @Test
+    void testScopedBeansWithQualifiers() {
+        BatchScope.enter();
+        try {
+            Report red = redReport.get();
+            Report blue = blueReport.get();
+            assertEquals("red", red.color());
+            assertEquals("blue", blue.color());
+            assertSame(red, redReport.get());
+        } finally {
+            BatchScope.exit();
+        }
+    }
+
+    @Test
+    void testScopeInstance() {
+        BatchScope.enter();
+        try {
+            BatchJob job = directJobProvider.get();
+            assertSame(job, directJobProvider.get());
+            assertNotSame(job, jobProvider.get());
+        } finally {
+            BatchScope.exit();
+        }
+    }
+}
+
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@ScopeAnnotation
+@interface BatchScoped {
+}
+
+class BatchJob {
+}
+
+@Retention(RetentionPolicy.RUNTIME)
+@BindingAnnotation
+@interface Red {
+}
+
+@Retention(RetentionPolicy.RUNTIME)
+@BindingAnnotation
+@interface Blue {
+}
+
+record Report(String color) {
+}
+
+@Factory
+@Requires(env = CustomScopeTest.ENV)
+class ReportFactory {
+    @Bean
+    @BatchScoped
+    @Red
+    Report red() {
+        return new Report("red");
+    }
+
+    @Bean
+    @BatchScoped
+    @Blue
+    Report blue() {
+        return new Report("blue");
+    }
+}
+
+class BatchScope implements Scope {
+    static final BatchScope INSTANCE = new BatchScope();
+    private static final ThreadLocal<Map<Key<?>, Object>> VALUES = new ThreadLocal<>();
+
+    static void enter() {
+        VALUES.set(new HashMap<>());
+    }
+
+    static void exit() {
+        VALUES.remove();
+    }
+
+    @Override
+    public <T> Provider<T> scope(Key<T> key, Provider<T> unscoped) {
+        return () -> {
+            Map<Key<?>, Object> values = VALUES.get();
+            if (values == null) {
+                throw new OutOfScopeException("Cannot access " + key + " outside of a batch");
+            }
+            @SuppressWarnings("unchecked")
+            T value = (T) values.computeIfAbsent(key, k -> unscoped.get());
+            return value;
+        };
+    }
+}
+
+class BatchModule extends AbstractModule {
+    @Override
+    protected void configure() {
+        bindScope(BatchScoped.class, BatchScope.INSTANCE);
+        bind(BatchJob.class).toProvider((Provider<BatchJob>) BatchJob::new).in(BatchScoped.class);
+        bind(BatchJob.class).annotatedWith(Names.named("direct")).toProvider((Provider<BatchJob>) BatchJob::new).in(BatchScope.INSTANCE);
+    }
+}
@@ -0,0 +1,72 @@
+package io.micronaut.guice.doc.examples.bindings.threadscope;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.OutOfScopeException;
+import com.google.inject.Provider;
+import io.micronaut.guice.ThreadScope;
+import io.micronaut.guice.annotation.Guice;
+import io.micronaut.guice.annotation.ThreadScoped;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@MicronautTest(startApplication = false, environments = ThreadScopeTest.ENV)
+@Guice(modules = ThreadScopeModule.class, environments = ThreadScopeTest.ENV)
+class ThreadScopeTest {
+    public static final String ENV = "threadscope";
+
+    @Inject
+    jakarta.inject.Provider<RequestContext> contextProvider;
+
+    @Test
+    void testInstancesSharedWithinScope() throws Exception {
+        RequestContext first = ThreadScope.call(() -> {
+            RequestContext context = contextProvider.get();
+            assertSame(context, contextProvider.get());
+            return context;
+        });
+        RequestContext second = ThreadScope.call(() -> contextProvider.get());
+        assertNotSame(first, second);
+    }
+
+    @Test
+    void testInstancesNotSharedBetweenThreads() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            RequestContext context = ThreadScope.call(() -> {
+                RequestContext current = contextProvider.get();
+                assertSame(current, contextProvider.get());
+                return current;
+            });
+            assertNotSame(context, executor.submit(() -> ThreadScope.call(() -> contextProvider.get())).get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testNoInstancesOutsideScope() {
+        Throwable error = assertThrows(RuntimeException.class, () -> contextProvider.get());
+        while (!(error instanceof OutOfScopeException) && error.getCause() != null) {
+            error = error.getCause();
+        }
+        assertInstanceOf(OutOfScopeException.class, error);
+    }
+}
+
+class RequestContext {
+}
+
+class ThreadScopeModule extends AbstractModule {
+    @Override
+    protected void configure() {
+        bind(RequestContext.class).toProvider((Provider<RequestContext>) RequestContext::new).in(ThreadScoped.class);
+    }
+}
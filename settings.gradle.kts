@@ -17,6 +17,7 @@ include("micronaut-guice-bom")
 include("micronaut-guice")
 include("micronaut-guice-annotation")
 include("micronaut-guice-processor")
+include("micronaut-guice-benchmarks")
 
 val micronautVersion = providers.gradleProperty("micronautVersion")
 